@@ -0,0 +1,173 @@
+package com.devvault.devvault_backend.benchmark;
+
+import com.devvault.devvault_backend.model.Issue;
+import com.devvault.devvault_backend.model.Role;
+import com.devvault.devvault_backend.model.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Deterministic data shaped like what the backend sees in production: GitHub issue pages with
+ * markdown bodies of a few hundred bytes to a few KB, a handful of labels, nested user and
+ * repository objects and the occasional pull request. Seeded so every run measures the same bytes.
+ */
+public final class SyntheticPayloads {
+
+	public static final String[] REPOSITORIES = {
+			"facebook/react", "microsoft/vscode", "nodejs/node",
+			"angular/angular", "vuejs/vue", "spring-projects/spring-boot"
+	};
+
+	private static final String[] LABELS = {
+			"bug", "enhancement", "documentation", "good first issue", "help wanted", "question",
+			"needs triage", "area: compiler", "area: runtime", "hard", "beginner", "performance",
+			"regression", "type: feature", "status: waiting-for-feedback", "complex"
+	};
+
+	private static final String[] WORDS = {
+			"the", "component", "renders", "twice", "when", "state", "changes", "after", "upgrade",
+			"error", "stack", "trace", "expected", "actual", "behaviour", "reproduce", "steps", "version",
+			"build", "fails", "on", "windows", "with", "node", "latest", "cache", "request", "timeout"
+	};
+
+	private SyntheticPayloads() {
+	}
+
+	/** The application's Jackson setup: Java time support, ISO dates, unknown properties ignored. */
+	public static ObjectMapper objectMapper() {
+		return Jackson2ObjectMapperBuilder.json().build();
+	}
+
+	public static User user(long id) {
+		return User.builder()
+				.id(id)
+				.email("user" + id + "@devvault.dev")
+				.name("User " + id)
+				.password("{noop}password")
+				.role(id % 10 == 0 ? Role.MAINTAINER : Role.DEVELOPER)
+				.build();
+	}
+
+	public static List<Issue> issues(int count, long seed) {
+		Random random = new Random(seed);
+		List<Issue> issues = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			Issue.Difficulty difficulty = Issue.Difficulty.values()[random.nextInt(3)];
+			String repository = REPOSITORIES[random.nextInt(REPOSITORIES.length)];
+			issues.add(Issue.builder()
+					.id(1_000L + i)
+					.githubId(String.valueOf(900_000_000L + i))
+					.title(sentence(random, 6 + random.nextInt(8)))
+					.description(markdownBody(random))
+					.repository(repository.substring(repository.indexOf('/') + 1))
+					.owner(repository.substring(0, repository.indexOf('/')))
+					.url("https://github.com/" + repository + "/issues/" + (10_000 + i))
+					.difficulty(difficulty)
+					.reward(difficulty == Issue.Difficulty.EASY ? 100 : difficulty == Issue.Difficulty.MEDIUM ? 250 : 500)
+					.labels(labelNames(random))
+					.claimedById(random.nextInt(4) == 0 ? (long) random.nextInt(500) + 1 : null)
+					.createdAt(LocalDateTime.of(2024, 1, 1, 0, 0).plusMinutes(random.nextInt(500_000)))
+					.build());
+		}
+		return issues;
+	}
+
+	/** One page of GitHub's GET /repos/{owner}/{repo}/issues response, as raw JSON. */
+	public static byte[] githubIssuePage(ObjectMapper objectMapper, int count, long seed) {
+		Random random = new Random(seed);
+		String repository = REPOSITORIES[random.nextInt(REPOSITORIES.length)];
+		String[] ownerAndName = repository.split("/");
+		List<Map<String, Object>> page = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			long number = 20_000L + i;
+			LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 0, 0).plusMinutes(random.nextInt(500_000));
+			Map<String, Object> issue = new LinkedHashMap<>();
+			issue.put("url", "https://api.github.com/repos/" + repository + "/issues/" + number);
+			issue.put("html_url", "https://github.com/" + repository + "/issues/" + number);
+			issue.put("id", 2_000_000_000L + random.nextInt(100_000_000));
+			issue.put("node_id", "I_kwDO" + Long.toHexString(random.nextLong()));
+			issue.put("number", number);
+			issue.put("title", sentence(random, 6 + random.nextInt(8)));
+			issue.put("user", Map.of(
+					"login", "contributor" + random.nextInt(5_000),
+					"id", random.nextInt(10_000_000),
+					"avatar_url", "https://avatars.githubusercontent.com/u/" + random.nextInt(10_000_000) + "?v=4",
+					"type", "User"));
+			List<Map<String, Object>> labels = new ArrayList<>();
+			for (String label : labelNames(random)) {
+				labels.add(Map.of("id", random.nextInt(1_000_000), "name", label, "color", "d73a4a",
+						"default", false, "description", sentence(random, 5)));
+			}
+			issue.put("labels", labels);
+			issue.put("state", "open");
+			issue.put("locked", false);
+			issue.put("comments", random.nextInt(40));
+			issue.put("created_at", createdAt.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME) + "Z");
+			issue.put("updated_at", createdAt.plusHours(random.nextInt(2_000)).format(DateTimeFormatter.ISO_LOCAL_DATE_TIME) + "Z");
+			issue.put("author_association", "CONTRIBUTOR");
+			issue.put("repository", Map.of("name", ownerAndName[1], "full_name", repository,
+					"owner", Map.of("login", ownerAndName[0])));
+			issue.put("body", markdownBody(random));
+			if (random.nextInt(5) == 0) {
+				issue.put("pull_request", Map.of("url", "https://api.github.com/repos/" + repository + "/pulls/" + number));
+			}
+			page.add(issue);
+		}
+		try {
+			return objectMapper.writeValueAsBytes(page);
+		} catch (Exception e) {
+			throw new IllegalStateException("Unable to build synthetic GitHub page", e);
+		}
+	}
+
+	private static List<String> labelNames(Random random) {
+		int count = random.nextInt(5);
+		List<String> labels = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			String label = LABELS[random.nextInt(LABELS.length)];
+			if (!labels.contains(label)) {
+				labels.add(label);
+			}
+		}
+		return labels;
+	}
+
+	private static String markdownBody(Random random) {
+		StringBuilder body = new StringBuilder("### Describe the bug\n\n")
+				.append(sentence(random, 20 + random.nextInt(60)))
+				.append("\n\n### Steps to reproduce\n\n");
+		int steps = 2 + random.nextInt(5);
+		for (int i = 1; i <= steps; i++) {
+			body.append(i).append(". ").append(sentence(random, 5 + random.nextInt(10))).append('\n');
+		}
+		if (random.nextBoolean()) {
+			body.append("\n```\n");
+			int lines = 3 + random.nextInt(20);
+			for (int i = 0; i < lines; i++) {
+				body.append("    at ").append(WORDS[random.nextInt(WORDS.length)]).append('.')
+						.append(WORDS[random.nextInt(WORDS.length)]).append("(index.js:").append(random.nextInt(900)).append(")\n");
+			}
+			body.append("```\n");
+		}
+		return body.toString();
+	}
+
+	private static String sentence(Random random, int words) {
+		StringBuilder sentence = new StringBuilder();
+		for (int i = 0; i < words; i++) {
+			if (i > 0) {
+				sentence.append(' ');
+			}
+			sentence.append(WORDS[random.nextInt(WORDS.length)]);
+		}
+		return sentence.toString();
+	}
+}
@@ -0,0 +1,80 @@
+package com.devvault.devvault_backend.security;
+
+import com.devvault.devvault_backend.benchmark.SyntheticPayloads;
+import com.devvault.devvault_backend.model.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issue and verification cost. "Cached" replays one token so the verified-claims cache
+ * answers; "uncached" rotates through distinct tokens against a provider with no cache, which is
+ * the cost every first request with a new token pays.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtTokenProviderBenchmark {
+
+	private static final int TOKEN_RING_SIZE = 1024;
+
+	private JwtTokenProvider cachingProvider;
+	private JwtTokenProvider uncachedProvider;
+	private User user;
+	private String cachedToken;
+	private String[] tokens;
+	private int next;
+
+	@Setup
+	public void setUp() {
+		cachingProvider = provider(10_000);
+		uncachedProvider = provider(0);
+		user = SyntheticPayloads.user(42);
+		cachedToken = cachingProvider.generateToken(user);
+		cachingProvider.validateToken(cachedToken);
+
+		tokens = new String[TOKEN_RING_SIZE];
+		for (int i = 0; i < TOKEN_RING_SIZE; i++) {
+			tokens[i] = uncachedProvider.generateToken(SyntheticPayloads.user(i + 1));
+		}
+	}
+
+	@Benchmark
+	public String generateToken() {
+		return cachingProvider.generateToken(user);
+	}
+
+	@Benchmark
+	public Long validateCachedToken() {
+		return cachingProvider.getUserIdFromToken(cachedToken);
+	}
+
+	@Benchmark
+	public Long validateUncachedToken() {
+		String token = tokens[next++ & (TOKEN_RING_SIZE - 1)];
+		return uncachedProvider.getUserIdFromToken(token);
+	}
+
+	private static JwtTokenProvider provider(long cacheSize) {
+		JwtTokenProvider provider = new JwtTokenProvider(new SimpleMeterRegistry());
+		ReflectionTestUtils.setField(provider, "jwtSecret", "devvault-secret-key-for-jwt-token-generation-2024");
+		ReflectionTestUtils.setField(provider, "jwtExpirationInMs", 86_400_000L);
+		ReflectionTestUtils.setField(provider, "verifiedTokenCacheSize", cacheSize);
+		provider.init();
+		return provider;
+	}
+}
@@ -0,0 +1,65 @@
+package com.devvault.devvault_backend.service;
+
+import com.devvault.devvault_backend.benchmark.SyntheticPayloads;
+import com.devvault.devvault_backend.dto.GitHubIssueDto;
+import com.devvault.devvault_backend.model.Issue;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-page work of the GitHub sync: decoding a 100-issue page into {@link GitHubIssueDto}s and
+ * classifying each issue's difficulty from its labels.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GitHubPayloadBenchmark {
+
+	private static final int PAGE_SIZE = 100;
+
+	private ObjectReader pageReader;
+	private byte[] page;
+	private List<GitHubIssueDto> issues;
+
+	@Setup
+	public void setUp() throws Exception {
+		ObjectMapper objectMapper = SyntheticPayloads.objectMapper();
+		pageReader = objectMapper.readerFor(new TypeReference<List<GitHubIssueDto>>() {
+		});
+		page = SyntheticPayloads.githubIssuePage(objectMapper, PAGE_SIZE, 7L);
+		issues = pageReader.readValue(page);
+	}
+
+	@Benchmark
+	public List<GitHubIssueDto> deserializePage() throws Exception {
+		return pageReader.readValue(page);
+	}
+
+	@Benchmark
+	public int determineDifficulty() {
+		int hard = 0;
+		for (GitHubIssueDto issue : issues) {
+			if (GitHubService.determineDifficulty(issue.getLabels()) == Issue.Difficulty.HARD) {
+				hard++;
+			}
+		}
+		return hard;
+	}
+}
@@ -0,0 +1,75 @@
+package com.devvault.devvault_backend.service;
+
+import com.devvault.devvault_backend.benchmark.SyntheticPayloads;
+import com.devvault.devvault_backend.dto.ApiResponse;
+import com.devvault.devvault_backend.dto.IssueDto;
+import com.devvault.devvault_backend.model.Issue;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity-to-DTO mapping and the JSON encoding of an issue list response, the two CPU-bound steps
+ * behind every issue listing once the rows are loaded.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IssueDtoBenchmark {
+
+	@Param({"20", "100", "1000"})
+	private int issueCount;
+
+	private IssueService issueService;
+	private ObjectMapper objectMapper;
+	private List<Issue> issues;
+	private ApiResponse<List<IssueDto>> response;
+
+	@Setup
+	public void setUp() {
+		// convertToDto touches none of the service's collaborators
+		issueService = new IssueService(null, null, null, null, null, null);
+		objectMapper = SyntheticPayloads.objectMapper();
+		issues = SyntheticPayloads.issues(issueCount, 21L);
+		response = ApiResponse.success(convert());
+	}
+
+	@Benchmark
+	public List<IssueDto> convertToDto() {
+		return convert();
+	}
+
+	@Benchmark
+	public byte[] serializeResponse() throws Exception {
+		return objectMapper.writeValueAsBytes(response);
+	}
+
+	@Benchmark
+	public byte[] convertAndSerialize() throws Exception {
+		return objectMapper.writeValueAsBytes(ApiResponse.success(convert()));
+	}
+
+	private List<IssueDto> convert() {
+		List<IssueDto> dtos = new ArrayList<>(issues.size());
+		for (Issue issue : issues) {
+			dtos.add(issueService.convertToDto(issue));
+		}
+		return dtos;
+	}
+}
@@ -0,0 +1,69 @@
+package com.devvault.devvault_backend.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-endpoint latency histograms and outcome counters for one stage. Latencies are recorded in
+ * microseconds up to one minute with three significant digits, so p999 stays meaningful.
+ */
+final class EndpointStats {
+
+	private static final long MAX_LATENCY_MICROS = 60_000_000L;
+
+	private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+	void record(String endpoint, long latencyNanos, Outcome outcome) {
+		Endpoint stats = endpoints.computeIfAbsent(endpoint, name -> new Endpoint());
+		stats.latencies.recordValue(Math.min(MAX_LATENCY_MICROS, Math.max(1, latencyNanos / 1_000)));
+		switch (outcome) {
+			case OK -> stats.ok.increment();
+			case REJECTED -> stats.rejected.increment();
+			case ERROR -> stats.errors.increment();
+		}
+	}
+
+	Map<String, Summary> summarize(double elapsedSeconds) {
+		Map<String, Summary> summaries = new TreeMap<>();
+		endpoints.forEach((name, stats) -> {
+			Histogram histogram = stats.latencies.getIntervalHistogram();
+			long requests = histogram.getTotalCount();
+			summaries.put(name, new Summary(
+					requests,
+					stats.ok.sum(),
+					stats.rejected.sum(),
+					stats.errors.sum(),
+					requests / elapsedSeconds,
+					histogram.getValueAtPercentile(50) / 1_000.0,
+					histogram.getValueAtPercentile(99) / 1_000.0,
+					histogram.getValueAtPercentile(99.9) / 1_000.0,
+					histogram.getMaxValue() / 1_000.0));
+		});
+		return summaries;
+	}
+
+	enum Outcome {
+		/** 2xx or 304. */
+		OK,
+		/** 4xx the scenario expects, such as losing a claim race. */
+		REJECTED,
+		/** 5xx, timeouts and connection failures. */
+		ERROR
+	}
+
+	record Summary(long requests, long ok, long rejected, long errors, double throughput,
+				   double p50Ms, double p99Ms, double p999Ms, double maxMs) {
+	}
+
+	private static final class Endpoint {
+		private final Recorder latencies = new Recorder(MAX_LATENCY_MICROS, 3);
+		private final LongAdder ok = new LongAdder();
+		private final LongAdder rejected = new LongAdder();
+		private final LongAdder errors = new LongAdder();
+	}
+}
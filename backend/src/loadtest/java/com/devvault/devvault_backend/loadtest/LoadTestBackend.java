@@ -0,0 +1,28 @@
+package com.devvault.devvault_backend.loadtest;
+
+import com.devvault.devvault_backend.DevvaultBackendApplication;
+import com.devvault.devvault_backend.TestcontainersConfiguration;
+import org.springframework.boot.SpringApplication;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Starts the backend against a throwaway PostgreSQL container with the "seed" profile, so
+ * {@link LoadTestDriver} has a realistically sized data set to hit. Extra arguments are passed
+ * through, e.g. --app.seed.issues=500000.
+ */
+public class LoadTestBackend {
+
+	public static void main(String[] args) {
+		List<String> arguments = new ArrayList<>(List.of(
+				"--spring.profiles.active=seed",
+				// Keep the run self-contained: no scheduled calls to api.github.com
+				"--github.sync.cron=-"));
+		arguments.addAll(Arrays.asList(args));
+		SpringApplication.from(DevvaultBackendApplication::main)
+				.with(TestcontainersConfiguration.class)
+				.run(arguments.toArray(String[]::new));
+	}
+}
@@ -0,0 +1,325 @@
+package com.devvault.devvault_backend.loadtest;
+
+import com.devvault.devvault_backend.config.SyntheticDataSeeder;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Closed-loop load driver for a running backend seeded by {@link SyntheticDataSeeder}. Each stage
+ * runs a fixed number of virtual users that replay a browsing-heavy mix (listings, search,
+ * filters, detail pages, logins, claim and complete) while a side loop periodically fires a claim
+ * storm: many sessions claiming the same open issue at the same instant. Per stage and endpoint it
+ * reports throughput and p50/p99/p999 latency, and writes everything to a JSON report. Being closed
+ * loop, a stalled server also slows the arrival rate, so read the tail next to the throughput.
+ *
+ * <pre>
+ * mvn -Ploadtest test-compile exec:exec -Dloadtest.main=com.devvault.devvault_backend.loadtest.LoadTestBackend
+ * mvn -Ploadtest test-compile exec:exec -Dloadtest.args="--stages=16,64,256 --stage-seconds=30"
+ * </pre>
+ */
+public class LoadTestDriver {
+
+	private static final String[] SEARCH_TERMS = {
+			"crash", "memory leak", "timeout", "cache", "windows build", "config option", "docs", "upgrade error"
+	};
+	private static final String[] FILTER_LABELS = {
+			"bug", "enhancement", "good first issue", "documentation", "help wanted", "performance", "security"
+	};
+
+	private final LoadTestOptions options;
+	private final HttpClient httpClient;
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final List<Session> sessions = new ArrayList<>();
+	private final ConcurrentLinkedQueue<Long> openIssues = new ConcurrentLinkedQueue<>();
+	private final List<Long> knownIssues = new ArrayList<>();
+
+	LoadTestDriver(LoadTestOptions options) {
+		this.options = options;
+		this.httpClient = HttpClient.newBuilder()
+				.version(HttpClient.Version.HTTP_1_1)
+				.connectTimeout(Duration.ofSeconds(5))
+				.executor(Executors.newVirtualThreadPerTaskExecutor())
+				.build();
+	}
+
+	public static void main(String[] args) throws Exception {
+		LoadTestOptions options = LoadTestOptions.parse(args);
+		new LoadTestDriver(options).run();
+	}
+
+	void run() throws Exception {
+		login();
+		collectIssues();
+		System.out.printf("Logged in %d sessions, %d open issues to claim, target %s%n",
+				sessions.size(), openIssues.size(), options.baseUrl());
+
+		if (!options.warmup().isZero()) {
+			System.out.printf("Warming up for %ds%n", options.warmup().toSeconds());
+			runStage(options.stages().get(0), options.warmup());
+		}
+
+		Map<String, Object> report = new LinkedHashMap<>();
+		report.put("baseUrl", options.baseUrl().toString());
+		report.put("stageSeconds", options.stageDuration().toSeconds());
+		List<Map<String, Object>> stages = new ArrayList<>();
+		for (int concurrency : options.stages()) {
+			Map<String, EndpointStats.Summary> summary = runStage(concurrency, options.stageDuration());
+			print(concurrency, summary);
+			stages.add(Map.of("concurrency", concurrency, "endpoints", summary));
+		}
+		report.put("stages", stages);
+
+		Files.createDirectories(options.report().toAbsolutePath().getParent());
+		objectMapper.enable(SerializationFeature.INDENT_OUTPUT).writeValue(options.report().toFile(), report);
+		System.out.println("Report written to " + options.report().toAbsolutePath());
+	}
+
+	private Map<String, EndpointStats.Summary> runStage(int concurrency, Duration duration) throws InterruptedException {
+		EndpointStats stats = new EndpointStats();
+		AtomicBoolean running = new AtomicBoolean(true);
+		CountDownLatch done = new CountDownLatch(concurrency + 1);
+		long startedAt = System.nanoTime();
+
+		try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+			for (int i = 0; i < concurrency; i++) {
+				Session session = sessions.get(i % sessions.size());
+				users.submit(() -> {
+					try {
+						while (running.get()) {
+							nextAction(session, stats);
+							if (!options.thinkTime().isZero()) {
+								Thread.sleep(options.thinkTime());
+							}
+						}
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					} finally {
+						done.countDown();
+					}
+				});
+			}
+			users.submit(() -> {
+				try {
+					while (running.get()) {
+						claimStorm(stats);
+						Thread.sleep(options.stormEvery());
+					}
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				} finally {
+					done.countDown();
+				}
+			});
+
+			Thread.sleep(duration);
+			running.set(false);
+			done.await();
+		}
+		return stats.summarize((System.nanoTime() - startedAt) / 1e9);
+	}
+
+	private void nextAction(Session session, EndpointStats stats) {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		int roll = random.nextInt(100);
+		if (roll < 30) {
+			send(stats, "GET /api/issues/available", get("/api/issues/available", session)
+					.header("Accept-Encoding", "gzip"));
+		} else if (roll < 50) {
+			String term = SEARCH_TERMS[random.nextInt(SEARCH_TERMS.length)];
+			send(stats, "GET /api/issues/search", get("/api/issues/search?q=" + encode(term), session));
+		} else if (roll < 65) {
+			String label = FILTER_LABELS[random.nextInt(FILTER_LABELS.length)];
+			send(stats, "GET /api/issues/filter", get("/api/issues/filter?status=OPEN&anyLabels=" + encode(label)
+					+ "&page=" + random.nextInt(5), session));
+		} else if (roll < 75) {
+			send(stats, "GET /api/issues/page", get("/api/issues/page?size=20", session));
+		} else if (roll < 85 && !knownIssues.isEmpty()) {
+			long issueId = knownIssues.get(random.nextInt(knownIssues.size()));
+			send(stats, "GET /api/issues/{id}", get("/api/issues/" + issueId, session));
+		} else if (roll < 90) {
+			send(stats, "GET /api/issues/my-issues", get("/api/issues/my-issues", session));
+		} else if (roll < 95) {
+			send(stats, "POST /api/auth/login", loginRequest(session.email()));
+		} else {
+			claimAndComplete(session, stats);
+		}
+	}
+
+	private void claimAndComplete(Session session, EndpointStats stats) {
+		Long issueId = openIssues.poll();
+		if (issueId == null) {
+			return;
+		}
+		HttpResponse<byte[]> claim = send(stats, "POST /api/issues/{id}/claim",
+				post("/api/issues/" + issueId + "/claim", session));
+		if (claim != null && claim.statusCode() == 200) {
+			send(stats, "POST /api/issues/{id}/complete", post("/api/issues/" + issueId + "/complete", session));
+		}
+	}
+
+	/**
+	 * Every session in the storm claims the same issue at once; exactly one should win and the
+	 * rest should be rejected quickly, without lock pile-ups showing in the tail.
+	 */
+	private void claimStorm(EndpointStats stats) throws InterruptedException {
+		Long issueId = openIssues.poll();
+		if (issueId == null) {
+			return;
+		}
+		int size = Math.min(options.stormSize(), sessions.size());
+		CountDownLatch ready = new CountDownLatch(size);
+		CountDownLatch go = new CountDownLatch(1);
+		CountDownLatch finished = new CountDownLatch(size);
+		AtomicReference<Session> winner = new AtomicReference<>();
+		int offset = ThreadLocalRandom.current().nextInt(sessions.size());
+		for (int i = 0; i < size; i++) {
+			Session session = sessions.get((offset + i) % sessions.size());
+			Thread.ofVirtual().start(() -> {
+				try {
+					ready.countDown();
+					go.await();
+					HttpResponse<byte[]> response = send(stats, "POST /api/issues/{id}/claim (storm)",
+							post("/api/issues/" + issueId + "/claim", session));
+					if (response != null && response.statusCode() == 200) {
+						winner.compareAndSet(null, session);
+					}
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				} finally {
+					finished.countDown();
+				}
+			});
+		}
+		ready.await();
+		go.countDown();
+		finished.await();
+		if (winner.get() != null) {
+			send(stats, "POST /api/issues/{id}/complete", post("/api/issues/" + issueId + "/complete", winner.get()));
+		}
+	}
+
+	private HttpResponse<byte[]> send(EndpointStats stats, String endpoint, HttpRequest.Builder request) {
+		long startedAt = System.nanoTime();
+		try {
+			HttpResponse<byte[]> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+			int status = response.statusCode();
+			EndpointStats.Outcome outcome = status < 400 ? EndpointStats.Outcome.OK
+					: status < 500 ? EndpointStats.Outcome.REJECTED : EndpointStats.Outcome.ERROR;
+			stats.record(endpoint, System.nanoTime() - startedAt, outcome);
+			return response;
+		} catch (IOException e) {
+			stats.record(endpoint, System.nanoTime() - startedAt, EndpointStats.Outcome.ERROR);
+			return null;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return null;
+		}
+	}
+
+	private void login() throws Exception {
+		List<Session> loggedIn = Collections.synchronizedList(new ArrayList<>());
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			for (int i = 0; i < options.users(); i++) {
+				String email = SyntheticDataSeeder.EMAIL_PREFIX + i + SyntheticDataSeeder.EMAIL_DOMAIN;
+				executor.submit(() -> {
+					HttpResponse<byte[]> response = httpClient.send(loginRequest(email).build(),
+							HttpResponse.BodyHandlers.ofByteArray());
+					if (response.statusCode() == 200) {
+						JsonNode data = objectMapper.readTree(response.body()).path("data");
+						loggedIn.add(new Session(email, data.path("token").asText()));
+					}
+					return null;
+				});
+			}
+		}
+		if (loggedIn.isEmpty()) {
+			throw new IllegalStateException("No seeded user could log in; start the backend with the seed profile");
+		}
+		sessions.addAll(loggedIn);
+	}
+
+	private void collectIssues() throws Exception {
+		Session session = sessions.get(0);
+		for (int page = 0; page < 20; page++) {
+			HttpResponse<byte[]> response = httpClient.send(
+					get("/api/issues/filter?status=OPEN&size=100&page=" + page, session).build(),
+					HttpResponse.BodyHandlers.ofByteArray());
+			JsonNode items = objectMapper.readTree(response.body()).path("data").path("items");
+			if (!items.isArray() || items.isEmpty()) {
+				break;
+			}
+			for (JsonNode item : items) {
+				long id = item.path("id").asLong();
+				knownIssues.add(id);
+				if (!item.path("claimed").asBoolean()) {
+					openIssues.add(id);
+				}
+			}
+		}
+	}
+
+	private HttpRequest.Builder get(String path, Session session) {
+		return HttpRequest.newBuilder(options.baseUrl().resolve(path))
+				.timeout(Duration.ofSeconds(30))
+				.header("Authorization", "Bearer " + session.token())
+				.GET();
+	}
+
+	private HttpRequest.Builder post(String path, Session session) {
+		return HttpRequest.newBuilder(options.baseUrl().resolve(path))
+				.timeout(Duration.ofSeconds(30))
+				.header("Authorization", "Bearer " + session.token())
+				.POST(HttpRequest.BodyPublishers.noBody());
+	}
+
+	private HttpRequest.Builder loginRequest(String email) {
+		String body = "{\"email\":\"" + email + "\",\"password\":\"" + options.password() + "\"}";
+		return HttpRequest.newBuilder(options.baseUrl().resolve("/api/auth/login"))
+				.timeout(Duration.ofSeconds(30))
+				.header("Content-Type", "application/json")
+				.POST(HttpRequest.BodyPublishers.ofString(body));
+	}
+
+	private static String encode(String value) {
+		return URLEncoder.encode(value, StandardCharsets.UTF_8);
+	}
+
+	private static void print(int concurrency, Map<String, EndpointStats.Summary> summary) {
+		System.out.printf("%n=== %d concurrent users ===%n", concurrency);
+		System.out.printf("%-40s %9s %8s %8s %10s %9s %9s %9s %9s%n",
+				"endpoint", "requests", "rejected", "errors", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms");
+		double total = 0;
+		for (Map.Entry<String, EndpointStats.Summary> entry : summary.entrySet()) {
+			EndpointStats.Summary s = entry.getValue();
+			total += s.throughput();
+			System.out.printf("%-40s %9d %8d %8d %10.1f %9.2f %9.2f %9.2f %9.2f%n", entry.getKey(),
+					s.requests(), s.rejected(), s.errors(), s.throughput(), s.p50Ms(), s.p99Ms(), s.p999Ms(), s.maxMs());
+		}
+		System.out.printf("%-40s %41.1f%n", "total", total);
+	}
+
+	private record Session(String email, String token) {
+	}
+}
@@ -0,0 +1,45 @@
+package com.devvault.devvault_backend.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Command line options of {@link LoadTestDriver}, given as --name=value.
+ *
+ * @param stages      concurrent virtual users per stage; stages run back to back so the report
+ *                    shows where throughput stops growing and tail latency takes off
+ * @param stormSize   sessions that claim the same issue at the same instant in each claim storm
+ * @param stormEvery  pause between claim storms
+ */
+record LoadTestOptions(URI baseUrl, int users, String password, List<Integer> stages, Duration stageDuration,
+					   Duration warmup, Duration thinkTime, int stormSize, Duration stormEvery, Path report) {
+
+	static LoadTestOptions parse(String[] args) {
+		Map<String, String> values = new HashMap<>();
+		for (String arg : args) {
+			if (!arg.startsWith("--") || !arg.contains("=")) {
+				throw new IllegalArgumentException("Expected --name=value but got " + arg);
+			}
+			values.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+		}
+		return new LoadTestOptions(
+				URI.create(values.getOrDefault("base-url", "http://localhost:8080")),
+				Integer.parseInt(values.getOrDefault("users", "200")),
+				values.getOrDefault("password", "loadtest123"),
+				Arrays.stream(values.getOrDefault("stages", "8,16,32,64,128").split(","))
+						.map(String::trim)
+						.map(Integer::parseInt)
+						.toList(),
+				Duration.ofSeconds(Long.parseLong(values.getOrDefault("stage-seconds", "60"))),
+				Duration.ofSeconds(Long.parseLong(values.getOrDefault("warmup-seconds", "15"))),
+				Duration.ofMillis(Long.parseLong(values.getOrDefault("think-ms", "0"))),
+				Integer.parseInt(values.getOrDefault("storm-size", "50")),
+				Duration.ofSeconds(Long.parseLong(values.getOrDefault("storm-every-seconds", "5"))),
+				Path.of(values.getOrDefault("report", "target/loadtest-report.json")));
+	}
+}
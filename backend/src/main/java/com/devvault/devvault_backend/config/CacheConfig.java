@@ -0,0 +1,14 @@
+package com.devvault.devvault_backend.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String ALL_ISSUES = "issues.all";
+    public static final String AVAILABLE_ISSUES = "issues.available";
+    public static final String ISSUE_SEARCH = "issues.search";
+    public static final String ISSUES_BY_USER = "issues.by-user";
+}
@@ -0,0 +1,99 @@
+package com.devvault.devvault_backend.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Retries idempotent GitHub requests that fail with a 5xx, or with a 403/429 rate-limit response
+ * whose window reopens within the backoff ceiling. Attempts are spaced with jittered exponential
+ * backoff so concurrent repository syncs do not retry in lockstep. Once attempts run out the last
+ * {@link WebClientResponseException} is propagated unchanged.
+ */
+@Component
+@Slf4j
+public class GitHubRetryFilter implements ExchangeFilterFunction {
+
+    private static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+    private static final String RESET_HEADER = "X-RateLimit-Reset";
+
+    @Value("${github.http.retry.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${github.http.retry.min-backoff:500ms}")
+    private Duration minBackoff;
+
+    @Value("${github.http.retry.max-backoff:10s}")
+    private Duration maxBackoff;
+
+    @Value("${github.http.retry.jitter:0.5}")
+    private double jitter;
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        if (maxAttempts <= 0 || !(HttpMethod.GET.equals(request.method()) || HttpMethod.HEAD.equals(request.method()))) {
+            return next.exchange(request);
+        }
+        return Mono.defer(() -> next.exchange(request))
+                .flatMap(response -> {
+                    Duration wait = retryDelay(response);
+                    if (wait == null) {
+                        return Mono.just(response);
+                    }
+                    // Build the exception now so its body is read and the connection goes back to the pool
+                    return response.createException()
+                            .flatMap(e -> Mono.delay(wait).then(Mono.<ClientResponse>error(e)));
+                })
+                .retryWhen(Retry.backoff(maxAttempts, minBackoff)
+                        .maxBackoff(maxBackoff)
+                        .jitter(jitter)
+                        .filter(WebClientResponseException.class::isInstance)
+                        .doBeforeRetry(signal -> log.warn("Retrying GitHub request {} after {} (attempt {})",
+                                request.url().getPath(), signal.failure().getMessage(), signal.totalRetries() + 1))
+                        .onRetryExhaustedThrow((spec, signal) -> signal.failure()));
+    }
+
+    /**
+     * Extra wait before a retry, or {@code null} when the response should be returned as is.
+     * Rate-limit responses wait out Retry-After or the window reset on top of the backoff.
+     */
+    private Duration retryDelay(ClientResponse response) {
+        HttpStatus status = HttpStatus.resolve(response.statusCode().value());
+        if (response.statusCode().is5xxServerError()) {
+            return Duration.ZERO;
+        }
+        if (status != HttpStatus.FORBIDDEN && status != HttpStatus.TOO_MANY_REQUESTS) {
+            return null;
+        }
+        HttpHeaders headers = response.headers().asHttpHeaders();
+        Duration wait = null;
+        try {
+            String retryAfter = headers.getFirst(HttpHeaders.RETRY_AFTER);
+            if (retryAfter != null) {
+                wait = Duration.ofSeconds(Long.parseLong(retryAfter.trim()));
+            } else if ("0".equals(headers.getFirst(REMAINING_HEADER)) && headers.getFirst(RESET_HEADER) != null) {
+                wait = Duration.between(Instant.now(), Instant.ofEpochSecond(Long.parseLong(headers.getFirst(RESET_HEADER))));
+            }
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        // A 403 without rate-limit headers is a permission problem, and a window far away is not worth holding a connection for
+        if (wait == null || wait.compareTo(maxBackoff) > 0) {
+            return null;
+        }
+        return wait.isNegative() ? Duration.ZERO : wait;
+    }
+}
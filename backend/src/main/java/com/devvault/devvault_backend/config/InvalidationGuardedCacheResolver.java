@@ -0,0 +1,122 @@
+package com.devvault.devvault_backend.config;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.CacheOperationInvocationContext;
+import org.springframework.cache.interceptor.SimpleCacheResolver;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Resolves caches wrapped so that a load which started before an eviction cannot put its
+ * result back afterwards. {@code @Cacheable} misses, runs the method and puts on the same
+ * thread, so each cache remembers its invalidation generation at the miss and skips the put
+ * if an {@link Cache#evict} or {@link Cache#clear} happened in between. Invalidation has
+ * to go through {@link #getCache(String)}, not the {@code CacheManager}, to be seen.
+ */
+@Component(InvalidationGuardedCacheResolver.NAME)
+public class InvalidationGuardedCacheResolver extends SimpleCacheResolver {
+
+    public static final String NAME = "invalidationGuardedCacheResolver";
+
+    private final Map<String, GuardedCache> caches = new ConcurrentHashMap<>();
+
+    public InvalidationGuardedCacheResolver(CacheManager cacheManager) {
+        super(cacheManager);
+    }
+
+    @Override
+    public Collection<? extends Cache> resolveCaches(CacheOperationInvocationContext<?> context) {
+        return super.resolveCaches(context).stream()
+                .map(cache -> caches.computeIfAbsent(cache.getName(), name -> new GuardedCache(cache)))
+                .toList();
+    }
+
+    public Cache getCache(String name) {
+        Cache cache = getCacheManager().getCache(name);
+        return cache != null ? caches.computeIfAbsent(name, key -> new GuardedCache(cache)) : null;
+    }
+
+    private static final class GuardedCache implements Cache {
+
+        private final Cache delegate;
+        private final ReentrantLock invalidationLock = new ReentrantLock();
+        private volatile long generation;
+        private final ThreadLocal<Long> missedAt = new ThreadLocal<>();
+
+        private GuardedCache(Cache delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public String getName() {
+            return delegate.getName();
+        }
+
+        @Override
+        public Object getNativeCache() {
+            return delegate.getNativeCache();
+        }
+
+        @Override
+        public ValueWrapper get(Object key) {
+            ValueWrapper value = delegate.get(key);
+            if (value == null) {
+                missedAt.set(generation);
+            }
+            return value;
+        }
+
+        @Override
+        public <T> T get(Object key, Class<T> type) {
+            return delegate.get(key, type);
+        }
+
+        @Override
+        public <T> T get(Object key, Callable<T> valueLoader) {
+            return delegate.get(key, valueLoader);
+        }
+
+        @Override
+        public void put(Object key, Object value) {
+            Long startedAt = missedAt.get();
+            missedAt.remove();
+            // Under the lock, so an invalidation cannot slip in between the check and the put
+            invalidationLock.lock();
+            try {
+                if (startedAt == null || startedAt == generation) {
+                    delegate.put(key, value);
+                }
+            } finally {
+                invalidationLock.unlock();
+            }
+        }
+
+        @Override
+        public void evict(Object key) {
+            invalidationLock.lock();
+            try {
+                generation++;
+                delegate.evict(key);
+            } finally {
+                invalidationLock.unlock();
+            }
+        }
+
+        @Override
+        public void clear() {
+            invalidationLock.lock();
+            try {
+                generation++;
+                delegate.clear();
+            } finally {
+                invalidationLock.unlock();
+            }
+        }
+    }
+}
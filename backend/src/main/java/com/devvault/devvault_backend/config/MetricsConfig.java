@@ -0,0 +1,27 @@
+package com.devvault.devvault_backend.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Application metrics on top of what Boot already binds (HTTP server and client, Hikari, JVM,
+ * caches). Everything is scraped from /actuator/prometheus.
+ */
+@Configuration
+public class MetricsConfig {
+
+    // Makes @Timed on service classes record a timer per method
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer statementCountingCustomizer(StatementCountingInspector statementCountingInspector) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, statementCountingInspector);
+    }
+}
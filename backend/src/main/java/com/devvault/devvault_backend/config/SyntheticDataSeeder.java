@@ -0,0 +1,308 @@
+package com.devvault.devvault_backend.config;
+
+import com.devvault.devvault_backend.service.IssuesChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+/**
+ * Fills the database with a capacity-planning sized data set when the "seed" profile is active.
+ * Users are loadtest-user-{n}@devvault.dev sharing one password; issues get a skewed label
+ * popularity, log-normally distributed description sizes and a realistic mix of open, claimed
+ * and completed states. Rows are written with batched JDBC inserts, one transaction per batch,
+ * and generation is deterministic per row so an interrupted run resumes where it stopped.
+ */
+@Component
+@Profile("seed")
+// After DataInitializer, so the demo accounts are still created on an empty database
+@Order(Ordered.LOWEST_PRECEDENCE)
+@RequiredArgsConstructor
+@Slf4j
+public class SyntheticDataSeeder implements CommandLineRunner {
+
+    public static final String EMAIL_PREFIX = "loadtest-user-";
+    public static final String EMAIL_DOMAIN = "@devvault.dev";
+    private static final String GITHUB_ID_PREFIX = "seed-";
+
+    private static final String INSERT_USER = "INSERT INTO users " +
+            "(email, name, password, role, xp, reputation, github_username, claimed_issues, completed_issues, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, 0, 0, ?, 0, 0, ?, ?) ON CONFLICT (email) DO NOTHING";
+
+    private static final String INSERT_ISSUE = "INSERT INTO issues " +
+            "(github_id, title, description, repository, owner, url, difficulty, reward, status, " +
+            "claimed_by_user_id, claimed_at, completed_at, created_at, updated_at) " +
+            "VALUES (:githubId, :title, :description, :repository, :owner, :url, :difficulty, :reward, :status, " +
+            ":claimedBy, :claimedAt, :completedAt, :createdAt, :createdAt) " +
+            "ON CONFLICT (github_id) DO NOTHING";
+
+    // Brings the denormalised counters in line with the issues the seeder assigned
+    private static final String RECOMPUTE_USER_STATS = "UPDATE users u SET " +
+            "claimed_issues = s.claimed, completed_issues = s.completed, xp = s.xp, reputation = s.completed * 10 " +
+            "FROM (SELECT claimed_by_user_id AS user_id, " +
+            "COUNT(*) FILTER (WHERE status IN ('CLAIMED', 'IN_PROGRESS')) AS claimed, " +
+            "COUNT(*) FILTER (WHERE status = 'COMPLETED') AS completed, " +
+            "COALESCE(SUM(reward) FILTER (WHERE status = 'COMPLETED'), 0) AS xp " +
+            "FROM issues WHERE claimed_by_user_id IS NOT NULL GROUP BY claimed_by_user_id) s " +
+            "WHERE u.id = s.user_id AND u.email LIKE '" + EMAIL_PREFIX + "%'";
+
+    private static final String[] OWNERS = {
+            "facebook", "microsoft", "nodejs", "angular", "vuejs", "spring-projects", "rust-lang",
+            "kubernetes", "apache", "golang", "django", "rails", "tensorflow", "elastic", "grafana"
+    };
+
+    private static final String[] REPOSITORIES = {
+            "core", "cli", "docs", "runtime", "compiler", "website", "sdk", "plugins", "examples",
+            "language-server", "test-utils", "dashboard", "api", "bench", "infra"
+    };
+
+    // Ordered by popularity; picked with a Zipf-like skew so a few labels dominate like on GitHub
+    private static final String[] LABELS = {
+            "bug", "enhancement", "good first issue", "documentation", "help wanted", "question",
+            "needs triage", "performance", "regression", "security", "accessibility", "tests",
+            "refactor", "dependencies", "ci", "ux", "breaking change", "design", "i18n", "beginner",
+            "hard", "complex", "easy", "expert", "windows", "macos", "linux", "mobile", "api", "cli"
+    };
+
+    private static final String[] WORDS = {
+            "the", "component", "renders", "twice", "when", "state", "changes", "after", "upgrade",
+            "error", "stack", "trace", "expected", "actual", "behaviour", "reproduce", "steps", "version",
+            "build", "fails", "on", "windows", "with", "node", "latest", "cache", "request", "timeout",
+            "memory", "leak", "crash", "config", "option", "missing", "support", "add", "improve", "docs"
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${app.seed.users:1000}")
+    private int userCount;
+
+    @Value("${app.seed.issues:100000}")
+    private int issueCount;
+
+    @Value("${app.seed.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${app.seed.random-seed:42}")
+    private long randomSeed;
+
+    @Value("${app.seed.password:loadtest123}")
+    private String password;
+
+    @Override
+    public void run(String... args) {
+        long startedAt = System.nanoTime();
+        int users = seedUsers();
+        int issues = seedIssues();
+        if (issues > 0) {
+            jdbcTemplate.update(RECOMPUTE_USER_STATS);
+            eventPublisher.publishEvent(IssuesChangedEvent.forAllUsers());
+        }
+        log.info("Synthetic seed finished: {} users and {} issues added in {} ms",
+                users, issues, (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    private int seedUsers() {
+        Integer existing = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM users WHERE email LIKE ?", Integer.class, EMAIL_PREFIX + "%");
+        if (existing != null && existing >= userCount) {
+            return 0;
+        }
+        // Every seeded account shares one hash; BCrypt per row would dominate the seed time
+        String hash = passwordEncoder.encode(password);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int inserted = 0;
+        for (int from = existing == null ? 0 : existing; from < userCount; from += batchSize) {
+            List<Object[]> rows = new ArrayList<>();
+            for (int n = from; n < Math.min(from + batchSize, userCount); n++) {
+                rows.add(new Object[]{EMAIL_PREFIX + n + EMAIL_DOMAIN, "Load Test User " + n, hash,
+                        n % 20 == 0 ? "MAINTAINER" : "DEVELOPER", "loadtester" + n, now, now});
+            }
+            inserted += rows.size();
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_USER, rows));
+        }
+        log.info("Seeded {} synthetic users", inserted);
+        return inserted;
+    }
+
+    private int seedIssues() {
+        Integer existing = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM issues WHERE github_id LIKE ?", Integer.class, GITHUB_ID_PREFIX + "%");
+        if (existing != null && existing >= issueCount) {
+            return 0;
+        }
+        List<Long> userIds = jdbcTemplate.queryForList(
+                "SELECT id FROM users WHERE email LIKE ? ORDER BY id", Long.class, EMAIL_PREFIX + "%");
+        int inserted = 0;
+        for (int from = existing == null ? 0 : existing; from < issueCount; from += batchSize) {
+            int to = Math.min(from + batchSize, issueCount);
+            List<SeedIssue> batch = new ArrayList<>(to - from);
+            for (int n = from; n < to; n++) {
+                batch.add(generateIssue(n, userIds));
+            }
+            transactionTemplate.executeWithoutResult(status -> writeIssues(batch));
+            inserted += batch.size();
+            if (to == issueCount || (to / batchSize) % 20 == 0) {
+                log.info("Seeded {}/{} synthetic issues", to, issueCount);
+            }
+        }
+        return inserted;
+    }
+
+    private void writeIssues(List<SeedIssue> batch) {
+        namedJdbcTemplate.batchUpdate(INSERT_ISSUE, batch.stream()
+                .map(SeedIssue::parameters)
+                .toArray(SqlParameterSource[]::new));
+
+        Map<String, Long> ids = namedJdbcTemplate.query(
+                "SELECT id, github_id FROM issues WHERE github_id IN (:githubIds)",
+                Map.of("githubIds", batch.stream().map(SeedIssue::githubId).toList()),
+                rs -> {
+                    Map<String, Long> byGithubId = new HashMap<>();
+                    while (rs.next()) {
+                        byGithubId.put(rs.getString("github_id"), rs.getLong("id"));
+                    }
+                    return byGithubId;
+                });
+
+        List<Object[]> labels = batch.stream()
+                .filter(issue -> ids.containsKey(issue.githubId()))
+                .flatMap(issue -> issue.labels().stream()
+                        .map(label -> new Object[]{ids.get(issue.githubId()), label}))
+                .collect(Collectors.toList());
+        jdbcTemplate.batchUpdate("INSERT INTO issue_labels (issue_id, label) VALUES (?, ?)", labels);
+    }
+
+    private SeedIssue generateIssue(int n, List<Long> userIds) {
+        Random random = new Random(randomSeed * 31 + n);
+        String owner = OWNERS[skewedIndex(random, OWNERS.length)];
+        String repository = REPOSITORIES[random.nextInt(REPOSITORIES.length)];
+
+        List<String> labels = new ArrayList<>();
+        int labelCount = random.nextDouble() < 0.15 ? 0 : 1 + skewedIndex(random, 5);
+        for (int i = 0; i < labelCount; i++) {
+            String label = LABELS[skewedIndex(random, LABELS.length)];
+            if (!labels.contains(label)) {
+                labels.add(label);
+            }
+        }
+
+        String difficulty = labels.contains("good first issue") || labels.contains("beginner") || labels.contains("easy")
+                ? "EASY"
+                : labels.contains("hard") || labels.contains("complex") || labels.contains("expert") ? "HARD" : "MEDIUM";
+        int reward = switch (difficulty) {
+            case "EASY" -> 100;
+            case "HARD" -> 500;
+            default -> 250;
+        };
+
+        LocalDateTime createdAt = LocalDateTime.now().minusMinutes(random.nextInt(60 * 24 * 365));
+        String status = "OPEN";
+        Long claimedBy = null;
+        LocalDateTime claimedAt = null;
+        LocalDateTime completedAt = null;
+        double roll = random.nextDouble();
+        if (!userIds.isEmpty() && roll < 0.20) {
+            claimedBy = userIds.get(skewedIndex(random, userIds.size()));
+            claimedAt = createdAt.plusHours(1 + random.nextInt(72));
+            if (roll < 0.08) {
+                status = "COMPLETED";
+                completedAt = claimedAt.plusHours(1 + random.nextInt(24 * 14));
+            } else {
+                status = roll < 0.12 ? "IN_PROGRESS" : "CLAIMED";
+            }
+        } else if (roll > 0.97) {
+            status = "CLOSED";
+        }
+
+        String githubId = GITHUB_ID_PREFIX + n;
+        return new SeedIssue(githubId, sentence(random, 5 + random.nextInt(10)), description(random),
+                repository, owner, "https://github.com/" + owner + "/" + repository + "/issues/" + (n + 1),
+                difficulty, reward, status, claimedBy, claimedAt, completedAt, createdAt, labels);
+    }
+
+    /**
+     * Markdown body with a log-normal length: a median around 600 characters and a long tail of
+     * multi-kilobyte bug reports with stack traces, capped at 20k.
+     */
+    private static String description(Random random) {
+        if (random.nextDouble() < 0.05) {
+            return null;
+        }
+        int targetLength = (int) Math.min(20_000, Math.exp(6.4 + random.nextGaussian() * 0.9));
+        StringBuilder body = new StringBuilder(targetLength + 64);
+        body.append("### Description\n\n");
+        while (body.length() < targetLength) {
+            if (random.nextInt(8) == 0) {
+                body.append("\n```\n    at ").append(WORDS[random.nextInt(WORDS.length)])
+                        .append(".js:").append(random.nextInt(900)).append("\n```\n");
+            } else {
+                body.append(sentence(random, 8 + random.nextInt(16))).append(". ");
+            }
+        }
+        return body.toString();
+    }
+
+    private static String sentence(Random random, int words) {
+        StringBuilder sentence = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                sentence.append(' ');
+            }
+            sentence.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return sentence.toString();
+    }
+
+    // Index in [0, size) with probability falling off roughly as 1/(i+1)
+    private static int skewedIndex(Random random, int size) {
+        return (int) Math.min(size - 1, Math.floor(Math.exp(random.nextDouble() * Math.log(size + 1)) - 1));
+    }
+
+    private record SeedIssue(String githubId, String title, String description, String repository, String owner,
+                             String url, String difficulty, int reward, String status, Long claimedBy,
+                             LocalDateTime claimedAt, LocalDateTime completedAt, LocalDateTime createdAt,
+                             List<String> labels) {
+
+        SqlParameterSource parameters() {
+            return new MapSqlParameterSource()
+                    .addValue("githubId", githubId)
+                    .addValue("title", title)
+                    .addValue("description", description)
+                    .addValue("repository", repository)
+                    .addValue("owner", owner)
+                    .addValue("url", url)
+                    .addValue("difficulty", difficulty)
+                    .addValue("reward", reward)
+                    .addValue("status", status)
+                    .addValue("claimedBy", claimedBy, Types.BIGINT)
+                    .addValue("claimedAt", claimedAt != null ? Timestamp.valueOf(claimedAt) : null, Types.TIMESTAMP)
+                    .addValue("completedAt", completedAt != null ? Timestamp.valueOf(completedAt) : null, Types.TIMESTAMP)
+                    .addValue("createdAt", Timestamp.valueOf(createdAt));
+        }
+    }
+}
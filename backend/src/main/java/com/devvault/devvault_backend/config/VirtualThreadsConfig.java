@@ -0,0 +1,35 @@
+package com.devvault.devvault_backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.Executors;
+
+/**
+ * Blocking work started from reactive pipelines (JDBC writes of the GitHub sync) runs on
+ * {@code jdbcScheduler}. With spring.threads.virtual.enabled it gets one virtual thread per task,
+ * matching what Boot then does for Tomcat, the application task executor and the scheduler;
+ * otherwise it is Reactor's shared bounded-elastic pool. Concurrency stays bounded either way by
+ * github.sync.concurrency and the Hikari pool.
+ *
+ * <p>Pinning audit for virtual threads on JDK 21: the application code has no synchronized
+ * blocks; shared state is guarded by ReentrantLock/ReadWriteLock or lock-free structures. The
+ * PostgreSQL driver uses ReentrantLock internally since 42.6. Caffeine's compute-style
+ * {@code Cache.get(key, loader)} runs the loader inside a ConcurrentHashMap bin monitor, so it is
+ * not used with loaders that hit the database. Check new code with -Djdk.tracePinnedThreads=short.
+ */
+@Configuration
+public class VirtualThreadsConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public Scheduler jdbcScheduler(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        if (virtualThreads) {
+            return Schedulers.fromExecutorService(Executors.newThreadPerTaskExecutor(
+                    Thread.ofVirtual().name("jdbc-", 0).factory()), "jdbc-virtual");
+        }
+        return Schedulers.boundedElastic();
+    }
+}
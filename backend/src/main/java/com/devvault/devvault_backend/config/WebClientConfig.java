@@ -1,14 +1,99 @@
 package com.devvault.devvault_backend.config;
 
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One long-lived client for every GitHub call. It is built from Boot's {@link WebClient.Builder}
+ * so requests are recorded as {@code http.client.requests}, and its connection pool publishes
+ * {@code reactor.netty.connection.provider.*} gauges under the name "github".
+ */
 @Configuration
 public class WebClientConfig {
 
+    @Value("${github.api.token:}")
+    private String githubToken;
+
+    @Value("${github.http.max-connections:50}")
+    private int maxConnections;
+
+    @Value("${github.http.pending-acquire-max-count:500}")
+    private int pendingAcquireMaxCount;
+
+    @Value("${github.http.pending-acquire-timeout:10s}")
+    private Duration pendingAcquireTimeout;
+
+    @Value("${github.http.max-idle-time:30s}")
+    private Duration maxIdleTime;
+
+    @Value("${github.http.max-life-time:5m}")
+    private Duration maxLifeTime;
+
+    @Value("${github.http.connect-timeout:5s}")
+    private Duration connectTimeout;
+
+    @Value("${github.http.response-timeout:30s}")
+    private Duration responseTimeout;
+
+    @Value("${github.http.max-in-memory-size:16MB}")
+    private DataSize maxInMemorySize;
+
+    @Value("${github.http.http2-enabled:true}")
+    private boolean http2Enabled;
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider githubConnectionProvider() {
+        return ConnectionProvider.builder("github")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(maxIdleTime)
+                .maxLifeTime(maxLifeTime)
+                .evictInBackground(maxIdleTime)
+                .metrics(true)
+                .build();
+    }
+
     @Bean
-    public WebClient.Builder webClientBuilder() {
-        return WebClient.builder();
+    public WebClient githubWebClient(WebClient.Builder webClientBuilder, ConnectionProvider githubConnectionProvider,
+                                     GitHubRetryFilter gitHubRetryFilter) {
+        HttpClient httpClient = HttpClient.create(githubConnectionProvider)
+                // HTTP/2 is negotiated over TLS via ALPN; plain-http endpoints stay on HTTP/1.1
+                .protocol(http2Enabled
+                        ? new HttpProtocol[]{HttpProtocol.H2, HttpProtocol.HTTP11}
+                        : new HttpProtocol[]{HttpProtocol.HTTP11})
+                .keepAlive(true)
+                .compress(true)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .responseTimeout(responseTimeout)
+                .doOnConnected(connection -> connection.addHandlerLast(
+                        new ReadTimeoutHandler(responseTimeout.toMillis(), TimeUnit.MILLISECONDS)));
+
+        WebClient.Builder builder = webClientBuilder
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                // A 100-issue page with bodies easily exceeds the 256KB default
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize((int) maxInMemorySize.toBytes()))
+                .filter(gitHubRetryFilter)
+                .defaultHeader(HttpHeaders.ACCEPT, "application/vnd.github.v3+json")
+                .defaultHeader(HttpHeaders.USER_AGENT, "DevVault-App");
+
+        if (!githubToken.isEmpty()) {
+            builder.defaultHeader(HttpHeaders.AUTHORIZATION, "token " + githubToken);
+        }
+
+        return builder.build();
     }
-}
\ No newline at end of file
+}
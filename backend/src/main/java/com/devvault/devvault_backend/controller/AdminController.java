@@ -1,13 +1,24 @@
 package com.devvault.devvault_backend.controller;
 
 import com.devvault.devvault_backend.dto.ApiResponse;
-import com.devvault.devvault_backend.service.GitHubService;
+import com.devvault.devvault_backend.dto.SyncJobDto;
+import com.devvault.devvault_backend.dto.TrackedRepositoryDto;
+import com.devvault.devvault_backend.dto.TrackedRepositoryRequest;
+import com.devvault.devvault_backend.exception.ResourceNotFoundException;
+import com.devvault.devvault_backend.service.SyncJob;
+import com.devvault.devvault_backend.service.SyncJobService;
+import com.devvault.devvault_backend.service.TrackedRepositoryService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URI;
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/admin")
 @RequiredArgsConstructor
@@ -15,19 +26,76 @@ import org.springframework.web.bind.annotation.*;
 @CrossOrigin(origins = {"http://localhost:5173", "http://localhost:3000"})
 public class AdminController {
 
-    private final GitHubService gitHubService;
+    private final SyncJobService syncJobService;
+    private final TrackedRepositoryService trackedRepositoryService;
 
+    // Kept for existing clients; now returns as soon as the job is queued
     @PostMapping("/sync-github-issues")
     @PreAuthorize("hasRole('MAINTAINER')")
-    public ResponseEntity<ApiResponse<String>> syncGitHubIssues() {
-        try {
-            log.info("Starting GitHub issues synchronization");
-            gitHubService.syncIssuesFromGitHub();
-            return ResponseEntity.ok(ApiResponse.success("GitHub issues synchronized successfully"));
-        } catch (Exception e) {
-            log.error("Error synchronizing GitHub issues", e);
-            return ResponseEntity.badRequest()
-                    .body(ApiResponse.error("Error synchronizing GitHub issues: " + e.getMessage()));
-        }
-    }
-}
\ No newline at end of file
+    public ResponseEntity<ApiResponse<SyncJobDto>> syncGitHubIssues() {
+        return startSyncJob();
+    }
+
+    @PostMapping("/sync-jobs")
+    @PreAuthorize("hasRole('MAINTAINER')")
+    public ResponseEntity<ApiResponse<SyncJobDto>> startSyncJob() {
+        return syncJobService.start(SyncJob.Trigger.MANUAL)
+                .map(job -> ResponseEntity.accepted()
+                        .location(URI.create("/api/admin/sync-jobs/" + job.getId()))
+                        .body(ApiResponse.success("GitHub sync started", job.toDto())))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.CONFLICT)
+                        .body(ApiResponse.success("A GitHub sync is already running",
+                                syncJobService.activeJob().map(SyncJob::toDto).orElse(null))));
+    }
+
+    @GetMapping("/sync-jobs")
+    @PreAuthorize("hasRole('MAINTAINER')")
+    public ResponseEntity<ApiResponse<List<SyncJobDto>>> getSyncJobs() {
+        return ResponseEntity.ok(ApiResponse.success(syncJobService.recentJobs().stream()
+                .map(SyncJob::toDto)
+                .toList()));
+    }
+
+    @GetMapping("/sync-jobs/{jobId}")
+    @PreAuthorize("hasRole('MAINTAINER')")
+    public ResponseEntity<ApiResponse<SyncJobDto>> getSyncJob(@PathVariable String jobId) {
+        SyncJob job = syncJobService.findJob(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Sync job not found with ID: " + jobId));
+        return ResponseEntity.ok(ApiResponse.success(job.toDto()));
+    }
+
+    @GetMapping("/repositories")
+    @PreAuthorize("hasRole('MAINTAINER')")
+    public ResponseEntity<ApiResponse<List<TrackedRepositoryDto>>> getTrackedRepositories() {
+        return ResponseEntity.ok(ApiResponse.success(trackedRepositoryService.getAll()));
+    }
+
+    @GetMapping("/repositories/{repositoryId}")
+    @PreAuthorize("hasRole('MAINTAINER')")
+    public ResponseEntity<ApiResponse<TrackedRepositoryDto>> getTrackedRepository(@PathVariable Long repositoryId) {
+        return ResponseEntity.ok(ApiResponse.success(trackedRepositoryService.get(repositoryId)));
+    }
+
+    @PostMapping("/repositories")
+    @PreAuthorize("hasRole('MAINTAINER')")
+    public ResponseEntity<ApiResponse<TrackedRepositoryDto>> addTrackedRepository(@Valid @RequestBody TrackedRepositoryRequest request) {
+        TrackedRepositoryDto created = trackedRepositoryService.create(request);
+        return ResponseEntity.created(URI.create("/api/admin/repositories/" + created.getId()))
+                .body(ApiResponse.success("Repository is now tracked", created));
+    }
+
+    @PutMapping("/repositories/{repositoryId}")
+    @PreAuthorize("hasRole('MAINTAINER')")
+    public ResponseEntity<ApiResponse<TrackedRepositoryDto>> updateTrackedRepository(@PathVariable Long repositoryId,
+                                                                                     @Valid @RequestBody TrackedRepositoryRequest request) {
+        return ResponseEntity.ok(ApiResponse.success("Tracked repository updated",
+                trackedRepositoryService.update(repositoryId, request)));
+    }
+
+    @DeleteMapping("/repositories/{repositoryId}")
+    @PreAuthorize("hasRole('MAINTAINER')")
+    public ResponseEntity<ApiResponse<Void>> removeTrackedRepository(@PathVariable Long repositoryId) {
+        trackedRepositoryService.delete(repositoryId);
+        return ResponseEntity.ok(ApiResponse.success("Repository is no longer tracked", null));
+    }
+}
@@ -1,16 +1,22 @@
 package com.devvault.devvault_backend.controller;
 
 import com.devvault.devvault_backend.dto.*;
+import com.devvault.devvault_backend.exception.AuthCapacityExceededException;
+import com.devvault.devvault_backend.exception.TooManyLoginAttemptsException;
+import com.devvault.devvault_backend.security.CurrentUserProvider;
 import com.devvault.devvault_backend.service.AuthService;
 import com.devvault.devvault_backend.service.UserService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Duration;
+
 @RestController
 @RequestMapping("/api/auth")
 @RequiredArgsConstructor
@@ -20,13 +26,19 @@ public class AuthController {
 
     private final AuthService authService;
     private final UserService userService;
+    private final CurrentUserProvider currentUserProvider;
 
     @PostMapping("/login")
-    public ResponseEntity<ApiResponse<AuthResponse>> login(@Valid @RequestBody LoginRequest request) {
+    public ResponseEntity<ApiResponse<AuthResponse>> login(@Valid @RequestBody LoginRequest request,
+                                                           HttpServletRequest httpRequest) {
         log.info("Login attempt for email: {}", request.getEmail());
         try {
-            AuthResponse response = authService.login(request);
+            AuthResponse response = authService.login(request, httpRequest.getRemoteAddr());
             return ResponseEntity.ok(ApiResponse.success("Login successful", response));
+        } catch (TooManyLoginAttemptsException e) {
+            return retryLater(HttpStatus.TOO_MANY_REQUESTS, e.getMessage(), e.getRetryAfter());
+        } catch (AuthCapacityExceededException e) {
+            return retryLater(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage(), e.getRetryAfter());
         } catch (Exception e) {
             log.error("Login failed for email: {}", request.getEmail(), e);
             return ResponseEntity.badRequest()
@@ -35,11 +47,16 @@ public class AuthController {
     }
 
     @PostMapping("/register")
-    public ResponseEntity<ApiResponse<AuthResponse>> register(@Valid @RequestBody RegisterRequest request) {
+    public ResponseEntity<ApiResponse<AuthResponse>> register(@Valid @RequestBody RegisterRequest request,
+                                                              HttpServletRequest httpRequest) {
         log.info("Registration attempt for email: {}", request.getEmail());
         try {
-            AuthResponse response = authService.register(request);
+            AuthResponse response = authService.register(request, httpRequest.getRemoteAddr());
             return ResponseEntity.ok(ApiResponse.success("Registration successful", response));
+        } catch (TooManyLoginAttemptsException e) {
+            return retryLater(HttpStatus.TOO_MANY_REQUESTS, e.getMessage(), e.getRetryAfter());
+        } catch (AuthCapacityExceededException e) {
+            return retryLater(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage(), e.getRetryAfter());
         } catch (Exception e) {
             log.error("Registration failed for email: {}", request.getEmail(), e);
             return ResponseEntity.badRequest()
@@ -50,13 +67,9 @@ public class AuthController {
     @GetMapping("/me")
     public ResponseEntity<ApiResponse<UserDto>> getCurrentUser() {
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            if (authentication != null && authentication.isAuthenticated()) {
-                com.devvault.devvault_backend.model.User user =
-                        (com.devvault.devvault_backend.model.User) authentication.getPrincipal();
-                UserDto userDto = userService.convertToDto(user);
-                return ResponseEntity.ok(ApiResponse.success(userDto));
-            }
+            UserDto userDto = userService.convertToDto(currentUserProvider.getCurrentUser());
+            return ResponseEntity.ok(ApiResponse.success(userDto));
+        } catch (IllegalStateException e) {
             return ResponseEntity.badRequest()
                     .body(ApiResponse.error("User not authenticated"));
         } catch (Exception e) {
@@ -65,4 +78,11 @@ public class AuthController {
                     .body(ApiResponse.error("Error retrieving user information"));
         }
     }
+
+    private static ResponseEntity<ApiResponse<AuthResponse>> retryLater(HttpStatus status, String message, Duration retryAfter) {
+        log.warn("Rejecting authentication request with {}: {}", status.value(), message);
+        return ResponseEntity.status(status)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter.toSeconds()))
+                .body(ApiResponse.error(message));
+    }
 }
\ No newline at end of file
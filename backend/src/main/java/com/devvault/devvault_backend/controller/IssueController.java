@@ -1,17 +1,32 @@
 package com.devvault.devvault_backend.controller;
 
 import com.devvault.devvault_backend.dto.ApiResponse;
+import com.devvault.devvault_backend.dto.CursorPage;
 import com.devvault.devvault_backend.dto.IssueDto;
+import com.devvault.devvault_backend.dto.IssueFacetsDto;
+import com.devvault.devvault_backend.dto.IssueSearchResultDto;
+import com.devvault.devvault_backend.dto.IssueSummaryDto;
+import com.devvault.devvault_backend.dto.SearchPage;
+import com.devvault.devvault_backend.exception.ResourceNotFoundException;
 import com.devvault.devvault_backend.model.Issue;
-import com.devvault.devvault_backend.model.User;
+import com.devvault.devvault_backend.security.CurrentUserProvider;
+import com.devvault.devvault_backend.service.IssueFilter;
+import com.devvault.devvault_backend.service.IssueListingSnapshots;
 import com.devvault.devvault_backend.service.IssueService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 @RestController
@@ -21,28 +36,31 @@ import java.util.List;
 @CrossOrigin(origins = {"http://localhost:5173", "http://localhost:3000"})
 public class IssueController {
 
+    private static final int STREAM_FLUSH_INTERVAL = 100;
+
     private final IssueService issueService;
+    private final ObjectMapper objectMapper;
+    private final CurrentUserProvider currentUserProvider;
+    private final IssueListingSnapshots listingSnapshots;
 
     @GetMapping
-    public ResponseEntity<ApiResponse<List<IssueDto>>> getAllIssues(
+    public ResponseEntity<?> getAllIssues(
             @RequestParam(required = false) String search,
             @RequestParam(required = false) String difficulty,
-            @RequestParam(required = false) String status) {
+            @RequestParam(required = false) String status,
+            WebRequest webRequest) {
 
         try {
-            List<IssueDto> issues;
-
-            if (search != null || difficulty != null || status != null) {
-                Issue.Difficulty difficultyEnum = difficulty != null ?
-                        Issue.Difficulty.valueOf(difficulty.toUpperCase()) : null;
-                Issue.IssueStatus statusEnum = status != null ?
-                        Issue.IssueStatus.valueOf(status.toUpperCase()) : null;
-
-                issues = issueService.searchIssues(search, difficultyEnum, statusEnum);
-            } else {
-                issues = issueService.getAllIssues();
+            if (search == null && difficulty == null && status == null) {
+                return encodedListing(IssueListingSnapshots.Listing.ALL, webRequest);
             }
 
+            Issue.Difficulty difficultyEnum = difficulty != null ?
+                    Issue.Difficulty.valueOf(difficulty.toUpperCase()) : null;
+            Issue.IssueStatus statusEnum = status != null ?
+                    Issue.IssueStatus.valueOf(status.toUpperCase()) : null;
+
+            List<IssueSummaryDto> issues = issueService.searchIssues(search, difficultyEnum, statusEnum);
             return ResponseEntity.ok(ApiResponse.success(issues));
         } catch (Exception e) {
             log.error("Error fetching issues", e);
@@ -51,11 +69,125 @@ public class IssueController {
         }
     }
 
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<SearchPage<IssueSearchResultDto>>> searchIssues(
+            @RequestParam String q,
+            @RequestParam(required = false) String difficulty,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String label,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size) {
+        try {
+            Issue.Difficulty difficultyEnum = difficulty != null ?
+                    Issue.Difficulty.valueOf(difficulty.toUpperCase()) : null;
+            Issue.IssueStatus statusEnum = status != null ?
+                    Issue.IssueStatus.valueOf(status.toUpperCase()) : null;
+
+            SearchPage<IssueSearchResultDto> results =
+                    issueService.searchIssuesRanked(q, difficultyEnum, statusEnum, label, page, size);
+            return ResponseEntity.ok(ApiResponse.success(results));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("Error searching issues", e);
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Error searching issues"));
+        }
+    }
+
+    @GetMapping("/filter")
+    public ResponseEntity<ApiResponse<SearchPage<IssueSummaryDto>>> filterIssues(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String difficulty,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String repository,
+            @RequestParam(required = false) List<String> anyLabels,
+            @RequestParam(required = false) List<String> allLabels,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size) {
+        try {
+            IssueFilter filter = toFilter(q, difficulty, status, repository, anyLabels, allLabels);
+            return ResponseEntity.ok(ApiResponse.success(issueService.filterIssues(filter, page, size)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("Error filtering issues", e);
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Error filtering issues"));
+        }
+    }
+
+    @GetMapping("/facets")
+    public ResponseEntity<ApiResponse<IssueFacetsDto>> getFacets(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String difficulty,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String repository,
+            @RequestParam(required = false) List<String> anyLabels,
+            @RequestParam(required = false) List<String> allLabels) {
+        try {
+            IssueFilter filter = toFilter(q, difficulty, status, repository, anyLabels, allLabels);
+            return ResponseEntity.ok(ApiResponse.success(issueService.getFacets(filter)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("Error computing issue facets", e);
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Error computing issue facets"));
+        }
+    }
+
+    @GetMapping("/page")
+    public ResponseEntity<ApiResponse<CursorPage<IssueDto>>> getIssuesPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        try {
+            CursorPage<IssueDto> page = issueService.getIssuesPage(cursor, size);
+            return ResponseEntity.ok(ApiResponse.success(page));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("Error fetching issues page", e);
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Error fetching issues"));
+        }
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamIssues() {
+        StreamingResponseBody body = outputStream -> {
+            int[] written = {0};
+            try {
+                issueService.streamAllIssues(issue -> {
+                    try {
+                        outputStream.write(objectMapper.writeValueAsBytes(issue));
+                        outputStream.write('\n');
+                        if (++written[0] % STREAM_FLUSH_INTERVAL == 0) {
+                            outputStream.flush();
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            outputStream.flush();
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
     @GetMapping("/available")
-    public ResponseEntity<ApiResponse<List<IssueDto>>> getAvailableIssues() {
+    public ResponseEntity<?> getAvailableIssues(WebRequest webRequest) {
         try {
-            List<IssueDto> issues = issueService.getAvailableIssues();
-            return ResponseEntity.ok(ApiResponse.success(issues));
+            return encodedListing(IssueListingSnapshots.Listing.AVAILABLE, webRequest);
         } catch (Exception e) {
             log.error("Error fetching available issues", e);
             return ResponseEntity.badRequest()
@@ -64,10 +196,9 @@ public class IssueController {
     }
 
     @GetMapping("/my-issues")
-    public ResponseEntity<ApiResponse<List<IssueDto>>> getMyIssues() {
+    public ResponseEntity<ApiResponse<List<IssueSummaryDto>>> getMyIssues() {
         try {
-            User currentUser = getCurrentUser();
-            List<IssueDto> issues = issueService.getIssuesByUser(currentUser.getId());
+            List<IssueSummaryDto> issues = issueService.getIssuesByUser(currentUserProvider.getCurrentUserId());
             return ResponseEntity.ok(ApiResponse.success(issues));
         } catch (Exception e) {
             log.error("Error fetching user issues", e);
@@ -76,11 +207,26 @@ public class IssueController {
         }
     }
 
+    @GetMapping("/{issueId}")
+    public ResponseEntity<ApiResponse<IssueDto>> getIssue(@PathVariable Long issueId) {
+        try {
+            // Listings only carry an excerpt; the full description is served here
+            IssueDto issue = issueService.getIssue(issueId);
+            return ResponseEntity.ok(ApiResponse.success(issue));
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("Error fetching issue {}", issueId, e);
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Error fetching issue"));
+        }
+    }
+
     @PostMapping("/{issueId}/claim")
     public ResponseEntity<ApiResponse<IssueDto>> claimIssue(@PathVariable Long issueId) {
         try {
-            User currentUser = getCurrentUser();
-            IssueDto issue = issueService.claimIssue(issueId, currentUser.getId());
+            IssueDto issue = issueService.claimIssue(issueId, currentUserProvider.getCurrentUserId());
             return ResponseEntity.ok(ApiResponse.success("Issue claimed successfully", issue));
         } catch (Exception e) {
             log.error("Error claiming issue {}", issueId, e);
@@ -92,8 +238,7 @@ public class IssueController {
     @PostMapping("/{issueId}/unclaim")
     public ResponseEntity<ApiResponse<IssueDto>> unclaimIssue(@PathVariable Long issueId) {
         try {
-            User currentUser = getCurrentUser();
-            IssueDto issue = issueService.unclaimIssue(issueId, currentUser.getId());
+            IssueDto issue = issueService.unclaimIssue(issueId, currentUserProvider.getCurrentUserId());
             return ResponseEntity.ok(ApiResponse.success("Issue unclaimed successfully", issue));
         } catch (Exception e) {
             log.error("Error unclaiming issue {}", issueId, e);
@@ -105,8 +250,7 @@ public class IssueController {
     @PostMapping("/{issueId}/complete")
     public ResponseEntity<ApiResponse<IssueDto>> completeIssue(@PathVariable Long issueId) {
         try {
-            User currentUser = getCurrentUser();
-            IssueDto issue = issueService.completeIssue(issueId, currentUser.getId());
+            IssueDto issue = issueService.completeIssue(issueId, currentUserProvider.getCurrentUserId());
             return ResponseEntity.ok(ApiResponse.success("Issue completed successfully", issue));
         } catch (Exception e) {
             log.error("Error completing issue {}", issueId, e);
@@ -115,8 +259,40 @@ public class IssueController {
         }
     }
 
-    private User getCurrentUser() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        return (User) authentication.getPrincipal();
+    /**
+     * Writes a pre-encoded listing as is. A matching If-None-Match is answered with 304 before the
+     * database or Jackson is involved.
+     */
+    private ResponseEntity<?> encodedListing(IssueListingSnapshots.Listing listing, WebRequest webRequest) {
+        IssueListingSnapshots.EncodedListing encoded = listingSnapshots.get(listing);
+        String acceptEncoding = webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+        String etag = gzip ? encoded.gzipEtag() : encoded.etag();
+
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(encoded.gzip());
+        }
+        return response.body(encoded.json());
+    }
+
+    private IssueFilter toFilter(String q, String difficulty, String status, String repository,
+                                 List<String> anyLabels, List<String> allLabels) {
+        Issue.Difficulty difficultyEnum = difficulty != null ?
+                Issue.Difficulty.valueOf(difficulty.toUpperCase()) : null;
+        Issue.IssueStatus statusEnum = status != null ?
+                Issue.IssueStatus.valueOf(status.toUpperCase()) : null;
+        return new IssueFilter(q, difficultyEnum, statusEnum, repository, anyLabels, allLabels);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,67 @@
+package com.devvault.devvault_backend.controller;
+
+import com.devvault.devvault_backend.dto.ApiResponse;
+import com.devvault.devvault_backend.dto.LeaderboardEntryDto;
+import com.devvault.devvault_backend.security.CurrentUserProvider;
+import com.devvault.devvault_backend.service.LeaderboardPeriod;
+import com.devvault.devvault_backend.service.LeaderboardService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/leaderboard")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = {"http://localhost:5173", "http://localhost:3000"})
+public class LeaderboardController {
+
+    private final LeaderboardService leaderboardService;
+    private final CurrentUserProvider currentUserProvider;
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<LeaderboardEntryDto>>> getLeaderboard(
+            @RequestParam(required = false) String period,
+            @RequestParam(required = false) Integer offset,
+            @RequestParam(required = false) Integer limit) {
+        try {
+            return ResponseEntity.ok(ApiResponse.success(leaderboardService.getTop(toPeriod(period), offset, limit)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Invalid leaderboard period: " + period));
+        }
+    }
+
+    @GetMapping("/me")
+    public ResponseEntity<ApiResponse<LeaderboardEntryDto>> getMyStanding(
+            @RequestParam(required = false) String period) {
+        try {
+            Long userId = currentUserProvider.getCurrentUserId();
+            return ResponseEntity.ok(ApiResponse.success(leaderboardService.getStanding(toPeriod(period), userId)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Invalid leaderboard period: " + period));
+        }
+    }
+
+    @GetMapping("/around/{rank}")
+    public ResponseEntity<ApiResponse<List<LeaderboardEntryDto>>> getAroundRank(
+            @PathVariable int rank,
+            @RequestParam(required = false) String period,
+            @RequestParam(required = false) Integer radius) {
+        try {
+            return ResponseEntity.ok(ApiResponse.success(leaderboardService.getAround(toPeriod(period), rank, radius)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Invalid leaderboard period: " + period));
+        }
+    }
+
+    private LeaderboardPeriod toPeriod(String period) {
+        return period == null ? LeaderboardPeriod.ALL_TIME
+                : LeaderboardPeriod.valueOf(period.toUpperCase().replace('-', '_'));
+    }
+}
@@ -0,0 +1,51 @@
+package com.devvault.devvault_backend.controller;
+
+import com.devvault.devvault_backend.dto.ApiResponse;
+import com.devvault.devvault_backend.dto.IssueDto;
+import com.devvault.devvault_backend.service.GitHubService;
+import com.devvault.devvault_backend.service.PublicIssueSnapshot;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/public/github")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = {"http://localhost:5173", "http://localhost:3000"})
+public class PublicGitHubController {
+
+    private final GitHubService gitHubService;
+
+    @GetMapping("/{owner}/{repo}/issues")
+    public ResponseEntity<ApiResponse<List<IssueDto>>> getRepositoryIssues(
+            @PathVariable String owner,
+            @PathVariable String repo,
+            WebRequest webRequest) {
+        try {
+            PublicIssueSnapshot snapshot = gitHubService.getPublicIssues(owner, repo);
+            // Browsers revalidate on every use and get a bodiless 304 while the snapshot is unchanged
+            CacheControl cacheControl = CacheControl.noCache().cachePublic();
+            if (webRequest.checkNotModified(snapshot.etag())) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(snapshot.etag())
+                        .cacheControl(cacheControl)
+                        .build();
+            }
+            return ResponseEntity.ok()
+                    .eTag(snapshot.etag())
+                    .cacheControl(cacheControl)
+                    .body(ApiResponse.success(snapshot.issues()));
+        } catch (IllegalStateException e) {
+            log.error("Error fetching GitHub issues for {}/{}: {}", owner, repo, e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(ApiResponse.error("GitHub issues are temporarily unavailable. Please try again later."));
+        }
+    }
+}
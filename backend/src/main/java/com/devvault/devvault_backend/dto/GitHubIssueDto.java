@@ -26,6 +26,10 @@ public class GitHubIssueDto {
     private Repository repository;
     private User user;
 
+    // Present only when the "issue" is actually a pull request
+    @JsonProperty("pull_request")
+    private PullRequest pullRequest;
+
     @Data
     public static class Label {
         private String name;
@@ -54,4 +58,9 @@ public class GitHubIssueDto {
         @JsonProperty("avatar_url")
         private String avatarUrl;
     }
-}
\ No newline at end of file
+
+    @Data
+    public static class PullRequest {
+        private String url;
+    }
+}
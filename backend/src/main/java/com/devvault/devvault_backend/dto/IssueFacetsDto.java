@@ -0,0 +1,20 @@
+package com.devvault.devvault_backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IssueFacetsDto {
+    private long total;
+    private Map<String, Long> labels;
+    private Map<String, Long> difficulties;
+    private Map<String, Long> statuses;
+    private Map<String, Long> repositories;
+}
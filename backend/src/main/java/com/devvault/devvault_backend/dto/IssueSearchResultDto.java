@@ -0,0 +1,18 @@
+package com.devvault.devvault_backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IssueSearchResultDto {
+    private IssueDto issue;
+    private Double rank;
+    // HTML-escaped text in which only <mark>...</mark> is markup
+    private String titleHighlight;
+    private String snippet;
+}
@@ -0,0 +1,19 @@
+package com.devvault.devvault_backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeaderboardEntryDto {
+    private Integer rank;
+    private String userId;
+    private String name;
+    private String githubUsername;
+    private String avatar;
+    private Long score;
+}
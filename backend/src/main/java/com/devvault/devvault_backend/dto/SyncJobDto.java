@@ -0,0 +1,28 @@
+package com.devvault.devvault_backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SyncJobDto {
+    private String id;
+    private String trigger;
+    private String status;
+    private LocalDateTime queuedAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private int repositoriesTotal;
+    private int repositoriesDone;
+    private int repositoriesFailed;
+    private long processed;
+    private long inserted;
+    private long updated;
+    private String error;
+}
@@ -0,0 +1,25 @@
+package com.devvault.devvault_backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrackedRepositoryDto {
+    private String id;
+    private String owner;
+    private String repository;
+    private Boolean enabled;
+    private Integer priority;
+    private Integer syncIntervalMinutes;
+    private LocalDateTime lastSyncedAt;
+    private LocalDateTime nextSyncAt;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,28 @@
+package com.devvault.devvault_backend.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import lombok.Data;
+
+@Data
+public class TrackedRepositoryRequest {
+    @NotBlank(message = "Owner is required")
+    @Pattern(regexp = "[A-Za-z0-9_.-]{1,100}", message = "Owner is not a valid GitHub name")
+    private String owner;
+
+    @NotBlank(message = "Repository is required")
+    @Pattern(regexp = "[A-Za-z0-9_.-]{1,100}", message = "Repository is not a valid GitHub name")
+    private String repository;
+
+    private Boolean enabled;
+
+    @Min(value = -1000, message = "Priority must be between -1000 and 1000")
+    @Max(value = 1000, message = "Priority must be between -1000 and 1000")
+    private Integer priority;
+
+    @Min(value = 5, message = "Sync interval must be at least 5 minutes")
+    @Max(value = 10080, message = "Sync interval must be at most one week")
+    private Integer syncIntervalMinutes;
+}
@@ -0,0 +1,15 @@
+package com.devvault.devvault_backend.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+@Getter
+public class AuthCapacityExceededException extends RuntimeException {
+    private final Duration retryAfter;
+
+    public AuthCapacityExceededException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+}
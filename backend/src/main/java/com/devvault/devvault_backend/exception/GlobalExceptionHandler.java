@@ -39,6 +39,13 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error(ex.getMessage()));
     }
 
+    @ExceptionHandler(RepositoryAlreadyTrackedException.class)
+    public ResponseEntity<ApiResponse<Object>> handleRepositoryAlreadyTrackedException(RepositoryAlreadyTrackedException ex) {
+        log.error("Repository already tracked: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(ApiResponse.error(ex.getMessage()));
+    }
+
     @ExceptionHandler({BadCredentialsException.class, UsernameNotFoundException.class})
     public ResponseEntity<ApiResponse<Object>> handleAuthenticationException(Exception ex) {
         log.error("Authentication failed: {}", ex.getMessage());
@@ -0,0 +1,7 @@
+package com.devvault.devvault_backend.exception;
+
+public class RepositoryAlreadyTrackedException extends RuntimeException {
+    public RepositoryAlreadyTrackedException(String message) {
+        super(message);
+    }
+}
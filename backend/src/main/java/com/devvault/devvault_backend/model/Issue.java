@@ -2,6 +2,7 @@ package com.devvault.devvault_backend.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -19,6 +20,7 @@ public class Issue {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    // Unique through uk_issues_github_id (V2), which the sync upsert's ON CONFLICT relies on
     @Column(nullable = false)
     private String githubId;
 
@@ -49,6 +51,7 @@ public class Issue {
     private IssueStatus status = IssueStatus.OPEN;
 
     @ElementCollection
+    @BatchSize(size = 100)
     @CollectionTable(name = "issue_labels", joinColumns = @JoinColumn(name = "issue_id"))
     @Column(name = "label")
     private List<String> labels;
@@ -57,13 +60,18 @@ public class Issue {
     @JoinColumn(name = "claimed_by_user_id")
     private User claimedBy;
 
+    // Read-only view of the foreign key so listings never have to touch the User proxy
+    @Column(name = "claimed_by_user_id", insertable = false, updatable = false)
+    @Setter(AccessLevel.NONE)
+    private Long claimedById;
+
     @Column(name = "claimed_at")
     private LocalDateTime claimedAt;
 
     @Column(name = "completed_at")
     private LocalDateTime completedAt;
 
-    @Column(name = "created_at")
+    @Column(name = "created_at", nullable = false)
     @Builder.Default
     private LocalDateTime createdAt = LocalDateTime.now();
 
@@ -71,6 +79,11 @@ public class Issue {
     @Builder.Default
     private LocalDateTime updatedAt = LocalDateTime.now();
 
+    public void setClaimedBy(User claimedBy) {
+        this.claimedBy = claimedBy;
+        this.claimedById = claimedBy != null ? claimedBy.getId() : null;
+    }
+
     @PreUpdate
     public void preUpdate() {
         this.updatedAt = LocalDateTime.now();
@@ -0,0 +1,37 @@
+package com.devvault.devvault_backend.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "repository_sync_cursors",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"owner", "repository"}))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RepositorySyncCursor {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String owner;
+
+    @Column(nullable = false)
+    private String repository;
+
+    // ETag of the first page of the last incremental request, replayed as If-None-Match
+    private String etag;
+
+    // Newest updated_at seen so far, replayed as the GitHub since= parameter
+    @Column(name = "last_updated_at")
+    private LocalDateTime lastUpdatedAt;
+
+    @Column(name = "last_synced_at")
+    private LocalDateTime lastSyncedAt;
+}
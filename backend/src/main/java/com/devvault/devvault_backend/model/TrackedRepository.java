@@ -0,0 +1,61 @@
+package com.devvault.devvault_backend.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "tracked_repositories",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"owner", "repository"}))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TrackedRepository {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    private String owner;
+
+    @Column(nullable = false, length = 100)
+    private String repository;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Boolean enabled = true;
+
+    // Higher values are synced first when the GitHub budget cannot cover every due repository
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer priority = 0;
+
+    @Column(name = "sync_interval_minutes", nullable = false)
+    @Builder.Default
+    private Integer syncIntervalMinutes = 60;
+
+    // Last sync attempt, successful or not, so a failing repository does not starve the others
+    @Column(name = "last_synced_at")
+    private LocalDateTime lastSyncedAt;
+
+    @Column(name = "created_at", nullable = false)
+    @Builder.Default
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    @Column(name = "updated_at", nullable = false)
+    @Builder.Default
+    private LocalDateTime updatedAt = LocalDateTime.now();
+
+    @PreUpdate
+    public void preUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public String getFullName() {
+        return owner + "/" + repository;
+    }
+}
@@ -0,0 +1,8 @@
+package com.devvault.devvault_backend.repository;
+
+public interface IssueLabelView {
+
+    Long getIssueId();
+
+    String getLabel();
+}
@@ -1,32 +1,137 @@
 package com.devvault.devvault_backend.repository;
 
 import com.devvault.devvault_backend.model.Issue;
-import com.devvault.devvault_backend.model.User;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface IssueRepository extends JpaRepository<Issue, Long> {
+    String SEARCH_FILTERS =
+            "AND (CAST(:difficulty AS text) IS NULL OR i.difficulty = CAST(:difficulty AS text)) " +
+            "AND (CAST(:status AS text) IS NULL OR i.status = CAST(:status AS text)) " +
+            "AND (CAST(:label AS text) IS NULL OR EXISTS (" +
+            "SELECT 1 FROM issue_labels l WHERE l.issue_id = i.id AND lower(l.label) = lower(CAST(:label AS text)))) ";
+
+    String SUMMARY_SELECT = "SELECT i.id AS id, i.title AS title, " +
+            "SUBSTRING(i.description, 1, " + (IssueSummaryView.EXCERPT_LENGTH + 1) + ") AS excerpt, " +
+            "i.difficulty AS difficulty, i.reward AS reward, i.repository AS repository, " +
+            "i.claimedById AS claimedById, i.url AS url, i.createdAt AS createdAt FROM Issue i ";
+
+    // Highlights are delimited with control characters (stripped from the source text first) and only
+    // turned into <mark> tags after the service has HTML-escaped the headline
+    String HIGHLIGHT_START = "\u0002";
+    String HIGHLIGHT_STOP = "\u0003";
+
     Optional<Issue> findByGithubId(String githubId);
-    List<Issue> findByStatus(Issue.IssueStatus status);
-    List<Issue> findByClaimedBy(User user);
-    List<Issue> findByDifficulty(Issue.Difficulty difficulty);
 
-    @Query("SELECT i FROM Issue i WHERE i.status = :status AND i.claimedBy IS NULL")
-    List<Issue> findAvailableIssues(@Param("status") Issue.IssueStatus status);
+    @EntityGraph(attributePaths = "labels")
+    List<Issue> findByIdIn(Collection<Long> ids);
+
+    @EntityGraph(attributePaths = "labels")
+    Optional<Issue> findWithLabelsById(Long id);
+
+    // Summary listings never read the full description; labels come from one lookup per batch of ids
+    @Query(SUMMARY_SELECT)
+    List<IssueSummaryView> findAllSummaries();
 
-    @Query("SELECT i FROM Issue i WHERE " +
-            "(LOWER(i.title) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
-            "LOWER(i.description) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
-            "LOWER(i.repository) LIKE LOWER(CONCAT('%', :searchTerm, '%'))) AND " +
+    // Literal predicate so even generic prepared plans match the partial idx_issues_open_unclaimed index
+    @Query(SUMMARY_SELECT + "WHERE i.status = com.devvault.devvault_backend.model.Issue.IssueStatus.OPEN " +
+            "AND i.claimedById IS NULL ORDER BY i.createdAt DESC, i.id DESC")
+    List<IssueSummaryView> findAvailableSummaries();
+
+    @Query(SUMMARY_SELECT + "WHERE i.claimedById = :userId")
+    List<IssueSummaryView> findSummariesByClaimedById(@Param("userId") Long userId);
+
+    @Query(SUMMARY_SELECT + "WHERE " +
             "(:difficulty IS NULL OR i.difficulty = :difficulty) AND " +
             "(:status IS NULL OR i.status = :status)")
-    List<Issue> findIssuesWithFilters(@Param("searchTerm") String searchTerm,
-                                      @Param("difficulty") Issue.Difficulty difficulty,
-                                      @Param("status") Issue.IssueStatus status);
+    List<IssueSummaryView> findSummariesByFilters(@Param("difficulty") Issue.Difficulty difficulty,
+                                                  @Param("status") Issue.IssueStatus status);
+
+    @Query(SUMMARY_SELECT + "WHERE i.id IN :ids")
+    List<IssueSummaryView> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(value = "SELECT i.id FROM issues i WHERE i.search_vector @@ websearch_to_tsquery('english', :searchTerm)",
+            nativeQuery = true)
+    List<Long> findIdsMatchingSearch(@Param("searchTerm") String searchTerm);
+
+    @Query("SELECT i.id AS issueId, l AS label FROM Issue i JOIN i.labels l WHERE i.id IN :issueIds")
+    List<IssueLabelView> findLabelsByIssueIdIn(@Param("issueIds") Collection<Long> issueIds);
+
+    // Ranks against the GIN-indexed search_vector and only builds highlights for the requested page
+    @Query(value = "WITH query AS (SELECT websearch_to_tsquery('english', :searchTerm) AS q), " +
+            "hits AS (" +
+            "SELECT i.id, CAST(ts_rank_cd(i.search_vector, query.q) AS double precision) AS rank " +
+            "FROM issues i, query " +
+            "WHERE i.search_vector @@ query.q " + SEARCH_FILTERS +
+            "ORDER BY rank DESC, i.id DESC " +
+            "LIMIT :limit OFFSET :offset) " +
+            "SELECT hits.id AS \"id\", hits.rank AS \"rank\", " +
+            "ts_headline('english', translate(i.title, chr(2) || chr(3), ''), query.q, 'HighlightAll=true, StartSel=" + HIGHLIGHT_START + ", StopSel=" + HIGHLIGHT_STOP + "') AS \"titleHighlight\", " +
+            "ts_headline('english', translate(coalesce(i.description, ''), chr(2) || chr(3), ''), query.q, " +
+            "'MaxFragments=2, MinWords=10, MaxWords=30, StartSel=" + HIGHLIGHT_START + ", StopSel=" + HIGHLIGHT_STOP + "') AS \"snippet\" " +
+            "FROM hits JOIN issues i ON i.id = hits.id, query " +
+            "ORDER BY hits.rank DESC, hits.id DESC",
+            nativeQuery = true)
+    List<IssueSearchHit> searchRanked(@Param("searchTerm") String searchTerm,
+                                      @Param("difficulty") String difficulty,
+                                      @Param("status") String status,
+                                      @Param("label") String label,
+                                      @Param("limit") int limit,
+                                      @Param("offset") long offset);
+
+    @Query(value = "SELECT count(*) FROM issues i " +
+            "WHERE i.search_vector @@ websearch_to_tsquery('english', :searchTerm) " + SEARCH_FILTERS,
+            nativeQuery = true)
+    long countSearchMatches(@Param("searchTerm") String searchTerm,
+                            @Param("difficulty") String difficulty,
+                            @Param("status") String status,
+                            @Param("label") String label);
+
+    // Paged queries rely on @BatchSize for labels: a collection fetch join would force in-memory paging
+    @Query("SELECT i FROM Issue i ORDER BY i.createdAt DESC, i.id DESC")
+    List<Issue> findFirstPage(Pageable pageable);
+
+    @Query("SELECT i FROM Issue i WHERE (i.createdAt, i.id) < (:createdAt, :id) " +
+            "ORDER BY i.createdAt DESC, i.id DESC")
+    List<Issue> findPageAfter(@Param("createdAt") LocalDateTime createdAt,
+                              @Param("id") Long id,
+                              Pageable pageable);
+
+    // Claim state transitions are single conditional UPDATEs; the affected-row count decides the winner
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE issues SET claimed_by_user_id = :userId, status = 'CLAIMED', " +
+            "claimed_at = :now, updated_at = :now " +
+            "WHERE id = :issueId AND claimed_by_user_id IS NULL AND status = 'OPEN'",
+            nativeQuery = true)
+    int claimIfAvailable(@Param("issueId") Long issueId,
+                         @Param("userId") Long userId,
+                         @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE issues SET claimed_by_user_id = NULL, status = 'OPEN', " +
+            "claimed_at = NULL, updated_at = :now " +
+            "WHERE id = :issueId AND claimed_by_user_id = :userId AND status IN ('CLAIMED', 'IN_PROGRESS')",
+            nativeQuery = true)
+    int unclaimIfClaimedBy(@Param("issueId") Long issueId,
+                           @Param("userId") Long userId,
+                           @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE issues SET status = 'COMPLETED', completed_at = :now, updated_at = :now " +
+            "WHERE id = :issueId AND claimed_by_user_id = :userId AND status IN ('CLAIMED', 'IN_PROGRESS')",
+            nativeQuery = true)
+    int completeIfClaimedBy(@Param("issueId") Long issueId,
+                            @Param("userId") Long userId,
+                            @Param("now") LocalDateTime now);
 }
\ No newline at end of file
@@ -0,0 +1,8 @@
+package com.devvault.devvault_backend.repository;
+
+public interface IssueSearchHit {
+    Long getId();
+    Double getRank();
+    String getTitleHighlight();
+    String getSnippet();
+}
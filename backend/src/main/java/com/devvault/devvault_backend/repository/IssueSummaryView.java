@@ -0,0 +1,32 @@
+package com.devvault.devvault_backend.repository;
+
+import com.devvault.devvault_backend.model.Issue;
+
+import java.time.LocalDateTime;
+
+/**
+ * Columns a listing needs. The description is cut in SQL to one character past
+ * {@link #EXCERPT_LENGTH}, so the service can tell whether it was truncated.
+ */
+public interface IssueSummaryView {
+
+    int EXCERPT_LENGTH = 280;
+
+    Long getId();
+
+    String getTitle();
+
+    String getExcerpt();
+
+    Issue.Difficulty getDifficulty();
+
+    Integer getReward();
+
+    String getRepository();
+
+    Long getClaimedById();
+
+    String getUrl();
+
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,12 @@
+package com.devvault.devvault_backend.repository;
+
+import com.devvault.devvault_backend.model.RepositorySyncCursor;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface RepositorySyncCursorRepository extends JpaRepository<RepositorySyncCursor, Long> {
+    Optional<RepositorySyncCursor> findByOwnerAndRepository(String owner, String repository);
+}
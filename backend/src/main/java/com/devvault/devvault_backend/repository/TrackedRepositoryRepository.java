@@ -0,0 +1,38 @@
+package com.devvault.devvault_backend.repository;
+
+import com.devvault.devvault_backend.model.TrackedRepository;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface TrackedRepositoryRepository extends JpaRepository<TrackedRepository, Long> {
+
+    boolean existsByOwnerIgnoreCaseAndRepositoryIgnoreCase(String owner, String repository);
+
+    List<TrackedRepository> findAllByOrderByPriorityDescOwnerAscRepositoryAsc();
+
+    /**
+     * Enabled repositories whose interval has elapsed, highest priority first and stalest first
+     * within a priority. Never-synced repositories sort ahead of everything else at their priority.
+     */
+    @Query(value = "SELECT * FROM tracked_repositories t " +
+            "WHERE t.enabled = TRUE " +
+            "AND (t.last_synced_at IS NULL " +
+            "OR t.last_synced_at + make_interval(mins => t.sync_interval_minutes) <= :now) " +
+            "ORDER BY t.priority DESC, t.last_synced_at ASC NULLS FIRST, t.id ASC " +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<TrackedRepository> findDue(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE TrackedRepository t SET t.lastSyncedAt = :syncedAt WHERE t.id = :id")
+    int markSynced(@Param("id") Long id, @Param("syncedAt") LocalDateTime syncedAt);
+}
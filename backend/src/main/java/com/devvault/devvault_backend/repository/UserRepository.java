@@ -2,8 +2,12 @@ package com.devvault.devvault_backend.repository;
 
 import com.devvault.devvault_backend.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Repository
@@ -11,4 +15,25 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
     Optional<User> findByGithubUsername(String githubUsername);
-}
\ No newline at end of file
+
+    // Counters are incremented in SQL so concurrent completions cannot lose updates
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE User u SET u.xp = COALESCE(u.xp, 0) + :xp, " +
+            "u.reputation = COALESCE(u.reputation, 0) + :reputation, " +
+            "u.completedIssues = COALESCE(u.completedIssues, 0) + 1, " +
+            "u.updatedAt = :now WHERE u.id = :userId")
+    int addCompletionStats(@Param("userId") Long userId,
+                           @Param("xp") int xp,
+                           @Param("reputation") int reputation,
+                           @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE User u SET u.claimedIssues = COALESCE(u.claimedIssues, 0) + 1, " +
+            "u.updatedAt = :now WHERE u.id = :userId")
+    int incrementClaimedIssues(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE User u SET u.claimedIssues = CASE WHEN u.claimedIssues > 0 THEN u.claimedIssues - 1 ELSE 0 END, " +
+            "u.updatedAt = :now WHERE u.id = :userId")
+    int decrementClaimedIssues(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,34 @@
+package com.devvault.devvault_backend.security;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Routes the expensive encode/matches calls of a delegate encoder through the
+ * {@link PasswordHashingExecutor}, so login, registration and the DaoAuthenticationProvider's
+ * timing-attack dummy check all share the same bounded pool.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final PasswordHashingExecutor executor;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, PasswordHashingExecutor executor) {
+        this.delegate = delegate;
+        this.executor = executor;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return executor.execute(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return executor.execute(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
@@ -0,0 +1,46 @@
+package com.devvault.devvault_backend.security;
+
+import com.devvault.devvault_backend.model.User;
+import com.devvault.devvault_backend.service.UserService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class CurrentUserProvider {
+
+    private final UserService userService;
+
+    public Long getCurrentUserId() {
+        Object principal = getPrincipal();
+        if (principal instanceof User user) {
+            return user.getId();
+        }
+        if (principal instanceof JwtUserPrincipal jwtPrincipal) {
+            return jwtPrincipal.id();
+        }
+        throw new IllegalStateException("User not authenticated");
+    }
+
+    /**
+     * Returns the full user entity, loading it only when the filter authenticated the request
+     * from token claims alone.
+     */
+    public User getCurrentUser() {
+        Object principal = getPrincipal();
+        if (principal instanceof User user) {
+            return user;
+        }
+        return userService.findPrincipalById(getCurrentUserId());
+    }
+
+    private Object getPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            throw new IllegalStateException("User not authenticated");
+        }
+        return authentication.getPrincipal();
+    }
+}
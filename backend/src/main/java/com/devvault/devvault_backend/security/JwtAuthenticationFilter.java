@@ -1,12 +1,15 @@
 package com.devvault.devvault_backend.security;
 
+import com.devvault.devvault_backend.model.Role;
 import com.devvault.devvault_backend.service.UserService;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -16,6 +19,7 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 
 @Component
 @RequiredArgsConstructor
@@ -25,15 +29,25 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtTokenProvider tokenProvider;
     private final UserService userService;
 
+    // Opt-in: trust the signed email/role claims instead of loading the user on every request
+    @Value("${app.security.stateless-principal:false}")
+    private boolean statelessPrincipal;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
         try {
             String jwt = getJwtFromRequest(request);
 
-            if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-                Long userId = tokenProvider.getUserIdFromToken(jwt);
-                UserDetails userDetails = userService.findById(userId);
+            Optional<Claims> claims = StringUtils.hasText(jwt) ? tokenProvider.getVerifiedClaims(jwt) : Optional.empty();
+
+            if (claims.isPresent()) {
+                Long userId = Long.parseLong(claims.get().getSubject());
+                UserDetails userDetails = statelessPrincipal
+                        ? new JwtUserPrincipal(userId,
+                                claims.get().get("email", String.class),
+                                Role.valueOf(claims.get().get("role", String.class)))
+                        : userService.findPrincipalById(userId);
 
                 UsernamePasswordAuthenticationToken authentication =
                         new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
@@ -1,28 +1,85 @@
 package com.devvault.devvault_backend.security;
 
 import com.devvault.devvault_backend.model.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SecurityException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 @Component
+@RequiredArgsConstructor
 @Slf4j
 public class JwtTokenProvider {
 
+    private final MeterRegistry meterRegistry;
+
     @Value("${app.jwt.secret}")
     private String jwtSecret;
 
     @Value("${app.jwt.expiration}")
     private long jwtExpirationInMs;
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes());
+    @Value("${app.jwt.cache.max-size:10000}")
+    private long verifiedTokenCacheSize;
+
+    private SecretKey signingKey;
+    private JwtParser jwtParser;
+
+    // Keyed by token hash so raw bearer tokens are never retained; entries die with the token's exp
+    private Cache<String, Claims> verifiedTokens;
+
+    private Timer cachedValidationTimer;
+    private Timer verifiedValidationTimer;
+    private Timer failedValidationTimer;
+
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        jwtParser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+        verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedTokenCacheSize)
+                .expireAfter(new Expiry<String, Claims>() {
+                    @Override
+                    public long expireAfterCreate(String key, Claims claims, long currentTime) {
+                        long remainingMs = claims.getExpiration().getTime() - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMs, 0));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+        cachedValidationTimer = validationTimer("cache", "valid");
+        verifiedValidationTimer = validationTimer("verify", "valid");
+        failedValidationTimer = validationTimer("verify", "invalid");
     }
 
     public String generateToken(User user) {
@@ -34,7 +91,7 @@ public class JwtTokenProvider {
                 .claim("role", user.getRole().name())
                 .issuedAt(new Date())
                 .expiration(expiryDate)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
@@ -44,31 +101,82 @@ public class JwtTokenProvider {
     }
 
     public Long getUserIdFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        Claims claims = getVerifiedClaims(token)
+                .orElseThrow(() -> new JwtException("Invalid JWT token"));
 
         return Long.parseLong(claims.getSubject());
     }
 
     public boolean validateToken(String authToken) {
+        return getVerifiedClaims(authToken).isPresent();
+    }
+
+    /**
+     * Returns the claims of a token whose signature and expiry have been verified, verifying it
+     * at most once per token lifetime.
+     */
+    public Optional<Claims> getVerifiedClaims(String authToken) {
+        if (authToken == null || authToken.isEmpty()) {
+            log.error("JWT claims string is empty");
+            recordFailure("empty");
+            return Optional.empty();
+        }
+
+        long startedAt = System.nanoTime();
+        String key = hash(authToken);
+        Claims cached = verifiedTokens.getIfPresent(key);
+        if (cached != null) {
+            cachedValidationTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            return Optional.of(cached);
+        }
+
+        String reason;
         try {
-            Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(authToken);
-            return true;
+            Claims claims = jwtParser.parseSignedClaims(authToken).getPayload();
+            if (claims.getExpiration() != null) {
+                verifiedTokens.put(key, claims);
+            }
+            verifiedValidationTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            return Optional.of(claims);
         } catch (MalformedJwtException ex) {
             log.error("Invalid JWT token");
+            reason = "malformed";
         } catch (ExpiredJwtException ex) {
             log.error("Expired JWT token");
+            reason = "expired";
         } catch (UnsupportedJwtException ex) {
             log.error("Unsupported JWT token");
+            reason = "unsupported";
+        } catch (SecurityException ex) {
+            log.error("Invalid JWT signature");
+            reason = "signature";
         } catch (IllegalArgumentException ex) {
             log.error("JWT claims string is empty");
+            reason = "empty";
+        }
+        failedValidationTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        recordFailure(reason);
+        return Optional.empty();
+    }
+
+    private Timer validationTimer(String source, String result) {
+        return Timer.builder("devvault.jwt.validation")
+                .description("Time to validate a bearer token, from the verified-token cache or by checking its signature")
+                .tag("source", source)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private void recordFailure(String reason) {
+        meterRegistry.counter("devvault.jwt.validation.failures", "reason", reason).increment();
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
         }
-        return false;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,32 @@
+package com.devvault.devvault_backend.security;
+
+import com.devvault.devvault_backend.model.Role;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Lightweight principal rebuilt from verified JWT claims in stateless principal mode.
+ * Endpoints that need the full {@link com.devvault.devvault_backend.model.User} load it through
+ * {@link CurrentUserProvider#getCurrentUser()}.
+ */
+public record JwtUserPrincipal(Long id, String email, Role role) implements UserDetails {
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
+    }
+
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+}
@@ -0,0 +1,147 @@
+package com.devvault.devvault_backend.security;
+
+import com.devvault.devvault_backend.exception.TooManyLoginAttemptsException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Token buckets per client address and per account that are drained by failed attempts only.
+ * A caller whose bucket is empty is turned away before any password is hashed, so guessing
+ * cannot keep the hashing pool busy; a successful login refills the account's bucket.
+ */
+@Component
+@Slf4j
+public class LoginThrottle {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final Limit addressLimit;
+    private final Limit accountLimit;
+    private final Cache<String, TokenBucket> addressBuckets;
+    private final Cache<String, TokenBucket> accountBuckets;
+    private final LongSupplier nanoClock;
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public LoginThrottle(@Value("${app.security.login-throttle.address.capacity:20}") int addressCapacity,
+                         @Value("${app.security.login-throttle.address.refill-period:10s}") Duration addressRefillPeriod,
+                         @Value("${app.security.login-throttle.account.capacity:5}") int accountCapacity,
+                         @Value("${app.security.login-throttle.account.refill-period:1m}") Duration accountRefillPeriod,
+                         @Value("${app.security.login-throttle.max-tracked-keys:100000}") long maxTrackedKeys,
+                         MeterRegistry meterRegistry) {
+        this(new Limit(addressCapacity, addressRefillPeriod), new Limit(accountCapacity, accountRefillPeriod),
+                maxTrackedKeys, meterRegistry, System::nanoTime);
+    }
+
+    LoginThrottle(Limit addressLimit, Limit accountLimit, long maxTrackedKeys,
+                  MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.addressLimit = addressLimit;
+        this.accountLimit = accountLimit;
+        this.nanoClock = nanoClock;
+        this.meterRegistry = meterRegistry;
+        // An idle bucket is full again after capacity * refillPeriod, so it can simply be dropped
+        this.addressBuckets = Caffeine.newBuilder()
+                .expireAfterAccess(addressLimit.timeToFull())
+                .maximumSize(maxTrackedKeys)
+                .build();
+        this.accountBuckets = Caffeine.newBuilder()
+                .expireAfterAccess(accountLimit.timeToFull())
+                .maximumSize(maxTrackedKeys)
+                .build();
+    }
+
+    public void checkAllowed(String clientAddress, String email) {
+        check(addressBuckets, clientAddress, "address");
+        check(accountBuckets, accountKey(email), "account");
+    }
+
+    public void recordFailure(String clientAddress, String email) {
+        addressBuckets.get(clientAddress, key -> new TokenBucket(addressLimit)).consume();
+        if (email != null) {
+            accountBuckets.get(accountKey(email), key -> new TokenBucket(accountLimit)).consume();
+        }
+    }
+
+    public void recordSuccess(String email) {
+        accountBuckets.invalidate(accountKey(email));
+    }
+
+    private void check(Cache<String, TokenBucket> buckets, String key, String scope) {
+        if (key == null) {
+            return;
+        }
+        TokenBucket bucket = buckets.getIfPresent(key);
+        if (bucket == null) {
+            return;
+        }
+        long waitNanos = bucket.nanosUntilAvailable();
+        if (waitNanos > 0) {
+            meterRegistry.counter("devvault.auth.throttled", "scope", scope).increment();
+            long retryAfterSeconds = Math.max(1, (waitNanos + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND);
+            log.warn("Throttling authentication attempts by {} {}", scope, key);
+            throw new TooManyLoginAttemptsException("Too many failed attempts, please retry later",
+                    Duration.ofSeconds(retryAfterSeconds));
+        }
+    }
+
+    private static String accountKey(String email) {
+        return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    record Limit(int capacity, Duration refillPeriod) {
+        Duration timeToFull() {
+            return refillPeriod.multipliedBy(capacity);
+        }
+    }
+
+    private final class TokenBucket {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Limit limit;
+        private final long refillNanos;
+        private double tokens;
+        private long lastRefill;
+
+        TokenBucket(Limit limit) {
+            this.limit = limit;
+            this.refillNanos = limit.refillPeriod().toNanos();
+            this.tokens = limit.capacity();
+            this.lastRefill = nanoClock.getAsLong();
+        }
+
+        void consume() {
+            lock.lock();
+            try {
+                refill();
+                tokens = Math.max(0, tokens - 1);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        long nanosUntilAvailable() {
+            lock.lock();
+            try {
+                refill();
+                return tokens >= 1 ? 0 : (long) Math.ceil((1 - tokens) * refillNanos);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void refill() {
+            long now = nanoClock.getAsLong();
+            tokens = Math.min(limit.capacity(), tokens + (double) (now - lastRefill) / refillNanos);
+            lastRefill = now;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.devvault.devvault_backend.security;
+
+import com.devvault.devvault_backend.exception.AuthCapacityExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Runs BCrypt work on a small fixed pool of platform threads with a bounded queue. Hashing is
+ * pure CPU, so letting every request thread (virtual or not) hash concurrently only makes all
+ * of them slow; once the queue is full or a caller has waited too long the request is shed
+ * with {@link AuthCapacityExceededException} instead of piling up.
+ */
+@Component
+@Slf4j
+public class PasswordHashingExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final Duration waitTimeout;
+    private final Counter rejected;
+    private final Counter timedOut;
+
+    public PasswordHashingExecutor(@Value("${app.security.password-hashing.threads:0}") int threads,
+                                   @Value("${app.security.password-hashing.queue-capacity:64}") int queueCapacity,
+                                   @Value("${app.security.password-hashing.wait-timeout:2s}") Duration waitTimeout,
+                                   MeterRegistry meterRegistry) {
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        ThreadFactory threadFactory = Thread.ofPlatform().name("password-hashing-", 0).daemon(true).factory();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+        this.waitTimeout = waitTimeout;
+        new ExecutorServiceMetrics(executor, "password.hashing", Tags.empty()).bindTo(meterRegistry);
+        this.rejected = Counter.builder("devvault.auth.hashing.shed")
+                .description("Password hashing requests shed because the hashing pool was saturated")
+                .tag("reason", "queue-full")
+                .register(meterRegistry);
+        this.timedOut = Counter.builder("devvault.auth.hashing.shed")
+                .description("Password hashing requests shed because the hashing pool was saturated")
+                .tag("reason", "timeout")
+                .register(meterRegistry);
+        log.info("Password hashing pool: {} threads, queue capacity {}, wait timeout {}", poolSize, queueCapacity, waitTimeout);
+    }
+
+    public <T> T execute(Supplier<T> work) {
+        Future<T> future;
+        try {
+            future = executor.submit(work::get);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw overloaded();
+        }
+        try {
+            return future.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            timedOut.increment();
+            throw overloaded();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    private AuthCapacityExceededException overloaded() {
+        return new AuthCapacityExceededException("Authentication is temporarily overloaded, please retry shortly",
+                waitTimeout.compareTo(Duration.ofSeconds(1)) < 0 ? Duration.ofSeconds(1) : waitTimeout);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+}
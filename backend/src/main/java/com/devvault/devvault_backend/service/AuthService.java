@@ -4,13 +4,16 @@ import com.devvault.devvault_backend.dto.AuthResponse;
 import com.devvault.devvault_backend.dto.LoginRequest;
 import com.devvault.devvault_backend.dto.RegisterRequest;
 import com.devvault.devvault_backend.dto.UserDto;
+import com.devvault.devvault_backend.exception.UserAlreadyExistsException;
 import com.devvault.devvault_backend.model.User;
 import com.devvault.devvault_backend.security.JwtTokenProvider;
+import com.devvault.devvault_backend.security.LoginThrottle;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -21,16 +24,25 @@ public class AuthService {
     private final AuthenticationManager authenticationManager;
     private final UserService userService;
     private final JwtTokenProvider jwtTokenProvider;
+    private final LoginThrottle loginThrottle;
 
-    public AuthResponse login(LoginRequest request) {
+    public AuthResponse login(LoginRequest request, String clientAddress) {
         log.info("Attempting login for user: {}", request.getEmail());
 
-        Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(
-                        request.getEmail(),
-                        request.getPassword()
-                )
-        );
+        loginThrottle.checkAllowed(clientAddress, request.getEmail());
+        Authentication authentication;
+        try {
+            authentication = authenticationManager.authenticate(
+                    new UsernamePasswordAuthenticationToken(
+                            request.getEmail(),
+                            request.getPassword()
+                    )
+            );
+        } catch (AuthenticationException e) {
+            loginThrottle.recordFailure(clientAddress, request.getEmail());
+            throw e;
+        }
+        loginThrottle.recordSuccess(request.getEmail());
 
         User user = (User) authentication.getPrincipal();
         String token = jwtTokenProvider.generateToken(user);
@@ -44,10 +56,18 @@ public class AuthService {
                 .build();
     }
 
-    public AuthResponse register(RegisterRequest request) {
+    public AuthResponse register(RegisterRequest request, String clientAddress) {
         log.info("Attempting registration for user: {}", request.getEmail());
 
-        User user = userService.createUser(request);
+        // Only the address bucket applies: the account does not exist yet
+        loginThrottle.checkAllowed(clientAddress, null);
+        User user;
+        try {
+            user = userService.createUser(request);
+        } catch (UserAlreadyExistsException e) {
+            loginThrottle.recordFailure(clientAddress, null);
+            throw e;
+        }
         String token = jwtTokenProvider.generateToken(user);
         UserDto userDto = userService.convertToDto(user);
 
@@ -0,0 +1,106 @@
+package com.devvault.devvault_backend.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Paces GitHub requests from the X-RateLimit-Remaining/Reset headers of previous responses
+ * instead of fixed sleeps. Requests flow freely until the remaining budget drops to the
+ * configured floor, then wait for the window reset.
+ */
+@Component
+@Slf4j
+public class GitHubRateLimiter implements MeterBinder {
+
+    static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+    static final String RESET_HEADER = "X-RateLimit-Reset";
+
+    private final AtomicLong remaining = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong resetEpochSecond = new AtomicLong(0);
+
+    @Value("${github.sync.rate-limit.min-remaining:10}")
+    private long minRemaining;
+
+    public Mono<Void> awaitCapacity() {
+        if (remaining.getAndDecrement() > minRemaining) {
+            return Mono.empty();
+        }
+        Duration wait = Duration.between(Instant.now(), Instant.ofEpochSecond(resetEpochSecond.get()));
+        if (wait.isNegative() || wait.isZero()) {
+            return Mono.empty();
+        }
+        log.info("GitHub rate limit nearly exhausted ({} left), waiting {}s for reset", remaining.get(), wait.toSeconds());
+        return Mono.delay(wait).then();
+    }
+
+    public void update(HttpHeaders headers) {
+        String remainingValue = headers.getFirst(REMAINING_HEADER);
+        String resetValue = headers.getFirst(RESET_HEADER);
+        if (remainingValue == null || resetValue == null) {
+            return;
+        }
+        try {
+            long reset = Long.parseLong(resetValue);
+            long left = Long.parseLong(remainingValue);
+            // A newer window resets the budget; within a window keep the lowest value seen
+            long previousReset = resetEpochSecond.getAndAccumulate(reset, Math::max);
+            if (reset > previousReset) {
+                remaining.set(left);
+            } else {
+                remaining.accumulateAndGet(left, Math::min);
+            }
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed GitHub rate limit headers: {}={}, {}={}",
+                    REMAINING_HEADER, remainingValue, RESET_HEADER, resetValue);
+        }
+    }
+
+    /**
+     * Requests that can still be spent before hitting the floor, or {@link Long#MAX_VALUE} while
+     * no window is known (nothing fetched yet, or the last window has already reset).
+     */
+    public long availableBudget() {
+        if (Instant.now().getEpochSecond() >= resetEpochSecond.get()) {
+            return Long.MAX_VALUE;
+        }
+        return Math.max(0, remaining.get() - minRemaining);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        // NaN until the first GitHub response tells us where the window stands
+        Gauge.builder("github.ratelimit.remaining", this, limiter -> limiter.remaining.get() == Long.MAX_VALUE
+                        ? Double.NaN : limiter.remaining.get())
+                .description("X-RateLimit-Remaining of the latest GitHub response")
+                .register(registry);
+        Gauge.builder("github.ratelimit.headroom", this, limiter -> {
+                    long budget = limiter.availableBudget();
+                    return budget == Long.MAX_VALUE ? Double.NaN : budget;
+                })
+                .description("GitHub requests left before the sync starts waiting for the window reset")
+                .register(registry);
+        Gauge.builder("github.ratelimit.reset", this, limiter ->
+                        Math.max(0, limiter.resetEpochSecond.get() - Instant.now().getEpochSecond()))
+                .description("Seconds until the current GitHub rate-limit window resets")
+                .baseUnit("seconds")
+                .register(registry);
+    }
+
+    public long getRemaining() {
+        return remaining.get();
+    }
+
+    public Instant getResetAt() {
+        return Instant.ofEpochSecond(resetEpochSecond.get());
+    }
+}
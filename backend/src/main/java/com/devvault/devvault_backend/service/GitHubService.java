@@ -1,19 +1,57 @@
 package com.devvault.devvault_backend.service;
 
 import com.devvault.devvault_backend.dto.GitHubIssueDto;
+import com.devvault.devvault_backend.dto.IssueDto;
+import com.devvault.devvault_backend.exception.ResourceNotFoundException;
 import com.devvault.devvault_backend.model.Issue;
-import com.devvault.devvault_backend.repository.IssueRepository;
+import com.devvault.devvault_backend.model.RepositorySyncCursor;
+import com.devvault.devvault_backend.model.TrackedRepository;
+import com.devvault.devvault_backend.repository.RepositorySyncCursorRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.convert.DurationStyle;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
-import java.util.Arrays;
+import java.net.URI;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 @Service
@@ -21,118 +59,315 @@ import java.util.stream.Collectors;
 @Slf4j
 public class GitHubService {
 
-    private final WebClient.Builder webClientBuilder;
-    private final IssueRepository issueRepository;
+    private static final ParameterizedTypeReference<List<GitHubIssueDto>> ISSUE_LIST_TYPE =
+            new ParameterizedTypeReference<>() {};
+    private static final Pattern NEXT_LINK = Pattern.compile("<([^>]+)>;\\s*rel=\"next\"");
+    private static final Pattern REPO_SEGMENT = Pattern.compile("[A-Za-z0-9_.-]{1,100}");
+
+    private final WebClient githubWebClient;
+    private final IssueSyncWriter issueSyncWriter;
+    private final GitHubRateLimiter rateLimiter;
+    private final RepositorySyncCursorRepository syncCursorRepository;
+    private final TrackedRepositoryService trackedRepositoryService;
+    private final MeterRegistry meterRegistry;
+    private final Scheduler jdbcScheduler;
+    private final ObjectMapper objectMapper;
 
     @Value("${github.api.base-url}")
     private String githubApiBaseUrl;
 
-    @Value("${github.api.token:}")
-    private String githubToken;
+    @Value("${github.sync.concurrency:4}")
+    private int syncConcurrency;
 
-    public List<GitHubIssueDto> fetchIssuesFromRepository(String owner, String repo) {
-        log.info("Fetching issues from GitHub repository: {}/{}", owner, repo);
+    @Value("${github.public.cache.ttl:5m}")
+    private Duration publicCacheTtl;
 
-        WebClient webClient = webClientBuilder
-                .baseUrl(githubApiBaseUrl)
-                .defaultHeader(HttpHeaders.ACCEPT, "application/vnd.github.v3+json")
-                .defaultHeader(HttpHeaders.USER_AGENT, "DevVault-App")
-                .build();
+    // Comma separated owner/repo=duration pairs, e.g. facebook/react=1m
+    @Value("${github.public.cache.ttl-overrides:}")
+    private String publicCacheTtlOverrides;
 
-        if (!githubToken.isEmpty()) {
-            webClient = webClient.mutate()
-                    .defaultHeader(HttpHeaders.AUTHORIZATION, "token " + githubToken)
-                    .build();
-        }
+    @Value("${github.public.cache.max-stale:1h}")
+    private Duration publicCacheMaxStale;
 
-        try {
-            List<GitHubIssueDto> issues = webClient.get()
-                    .uri("/repos/{owner}/{repo}/issues?state=open&per_page=100", owner, repo)
-                    .retrieve()
-                    .bodyToMono(new ParameterizedTypeReference<List<GitHubIssueDto>>() {})
-                    .block();
-
-            log.info("Successfully fetched {} issues from {}/{}", issues != null ? issues.size() : 0, owner, repo);
-            return issues != null ? issues : List.of();
-        } catch (Exception e) {
-            log.error("Error fetching issues from GitHub: {}", e.getMessage());
-            return List.of();
-        }
+    @Value("${github.public.cache.max-size:500}")
+    private long publicCacheMaxSize;
+
+    @Value("${github.public.cache.load-timeout:15s}")
+    private Duration publicCacheLoadTimeout;
+
+    private Map<String, Duration> publicCacheTtls;
+    private AsyncLoadingCache<String, PublicIssueSnapshot> publicIssueCache;
+
+    @PostConstruct
+    void initPublicIssueCache() {
+        publicCacheTtls = parseTtlOverrides(publicCacheTtlOverrides);
+        // Concurrent misses for one repository share a single in-flight future, so a burst of
+        // visitors costs one upstream call
+        publicIssueCache = Caffeine.newBuilder()
+                .maximumSize(publicCacheMaxSize)
+                .expireAfterWrite(publicCacheMaxStale)
+                .buildAsync(new AsyncCacheLoader<>() {
+                    @Override
+                    public CompletableFuture<PublicIssueSnapshot> asyncLoad(String key, Executor executor) {
+                        return fetchPublicIssues(key, null).toFuture();
+                    }
+
+                    @Override
+                    public CompletableFuture<PublicIssueSnapshot> asyncReload(String key, PublicIssueSnapshot previous,
+                                                                              Executor executor) {
+                        return fetchPublicIssues(key, previous).toFuture();
+                    }
+                });
     }
 
-    @Transactional
-    public void syncIssuesFromGitHub() {
-        log.info("Starting GitHub issues synchronization");
+    /**
+     * Open issues of a tracked repository, mapped to {@link IssueDto} with pull requests removed.
+     * A snapshot older than the repository's TTL is still returned while one background refresh
+     * revalidates it against GitHub with the stored ETag; a failed refresh keeps the old copy.
+     */
+    public PublicIssueSnapshot getPublicIssues(String owner, String repo) {
+        if (!REPO_SEGMENT.matcher(owner).matches() || !REPO_SEGMENT.matcher(repo).matches()) {
+            throw new IllegalArgumentException("Invalid repository: " + owner + "/" + repo);
+        }
+        if (!trackedRepositoryService.isTracked(owner, repo)) {
+            throw new ResourceNotFoundException("Repository " + owner + "/" + repo + " is not tracked");
+        }
+        String key = (owner + "/" + repo).toLowerCase(Locale.ROOT);
 
-        // Popular repositories to sync issues from
-        List<String> repositories = Arrays.asList(
-                "facebook/react",
-                "microsoft/vscode",
-                "nodejs/node",
-                "angular/angular",
-                "vuejs/vue",
-                "spring-projects/spring-boot"
-        );
-
-        for (String repo : repositories) {
-            String[] parts = repo.split("/");
-            String owner = parts[0];
-            String repoName = parts[1];
-
-            try {
-                List<GitHubIssueDto> githubIssues = fetchIssuesFromRepository(owner, repoName);
-
-                for (GitHubIssueDto githubIssue : githubIssues) {
-                    syncSingleIssue(githubIssue, owner, repoName);
-                }
-
-                // Add delay to respect rate limits
-                Thread.sleep(1000);
-            } catch (Exception e) {
-                log.error("Error syncing repository {}: {}", repo, e.getMessage());
+        PublicIssueSnapshot snapshot;
+        try {
+            snapshot = publicIssueCache.get(key).get(publicCacheLoadTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof WebClientResponseException.NotFound) {
+                throw new ResourceNotFoundException("Repository " + owner + "/" + repo + " not found");
             }
+            throw new IllegalStateException("GitHub API unavailable", e.getCause());
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("GitHub API did not respond in time", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading GitHub issues", e);
         }
 
-        log.info("GitHub issues synchronization completed");
+        if (snapshot.isStale(publicCacheTtls.getOrDefault(key, publicCacheTtl))) {
+            // Caffeine joins concurrent refreshes of the same key into one reload
+            publicIssueCache.synchronous().refresh(key);
+        }
+        return snapshot;
     }
 
-    private void syncSingleIssue(GitHubIssueDto githubIssue, String owner, String repoName) {
-        String githubId = githubIssue.getId().toString();
+    private Mono<PublicIssueSnapshot> fetchPublicIssues(String key, PublicIssueSnapshot previous) {
+        String repoName = key.substring(key.indexOf('/') + 1);
+        URI uri = URI.create(githubApiBaseUrl + "/repos/" + key + "/issues?state=open&per_page=50");
 
-        // Check if issue already exists
-        if (issueRepository.findByGithubId(githubId).isPresent()) {
-            return; // Skip if already exists
-        }
+        return fetchPage(uri, previous != null ? previous.upstreamEtag() : null)
+                .map(page -> {
+                    if (page.notModified() && previous != null) {
+                        return previous.revalidated();
+                    }
+                    List<IssueDto> issues = page.issues().stream()
+                            .filter(issue -> issue.getPullRequest() == null)
+                            .map(issue -> toPublicIssueDto(issue, repoName))
+                            .toList();
+                    return new PublicIssueSnapshot(issues, page.etag(), contentEtag(issues), Instant.now());
+                });
+    }
 
-        // Determine difficulty based on labels
+    private IssueDto toPublicIssueDto(GitHubIssueDto githubIssue, String repoName) {
         Issue.Difficulty difficulty = determineDifficulty(githubIssue.getLabels());
-
-        // Calculate reward based on difficulty
-        int reward = calculateReward(difficulty);
-
-        Issue issue = Issue.builder()
-                .githubId(githubId)
+        return IssueDto.builder()
+                .id(githubIssue.getId().toString())
                 .title(githubIssue.getTitle())
-                .description(githubIssue.getBody() != null ? githubIssue.getBody() : "")
+                .description(githubIssue.getBody() != null ? githubIssue.getBody() : "No description provided")
+                .difficulty(difficulty.name().charAt(0) + difficulty.name().substring(1).toLowerCase())
+                .reward(calculateReward(difficulty))
                 .repository(repoName)
-                .owner(owner)
+                .labels(githubIssue.getLabels() != null
+                        ? githubIssue.getLabels().stream().map(GitHubIssueDto.Label::getName).toList()
+                        : List.of())
+                .claimed(false)
                 .url(githubIssue.getHtmlUrl())
-                .difficulty(difficulty)
-                .reward(reward)
-                .status(Issue.IssueStatus.OPEN)
-                .labels(githubIssue.getLabels() != null ?
-                        githubIssue.getLabels().stream()
-                                .map(GitHubIssueDto.Label::getName)
-                                .collect(Collectors.toList()) :
-                        List.of())
                 .createdAt(githubIssue.getCreatedAt())
                 .build();
+    }
+
+    private String contentEtag(List<IssueDto> issues) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(issues));
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Unable to compute ETag", e);
+        }
+    }
+
+    private static Map<String, Duration> parseTtlOverrides(String overrides) {
+        Map<String, Duration> ttls = new HashMap<>();
+        for (String entry : overrides.split(",")) {
+            int separator = entry.lastIndexOf('=');
+            if (separator > 0) {
+                ttls.put(entry.substring(0, separator).trim().toLowerCase(Locale.ROOT),
+                        DurationStyle.detectAndParse(entry.substring(separator + 1).trim()));
+            }
+        }
+        return ttls;
+    }
 
-        issueRepository.save(issue);
-        log.debug("Synced issue: {} from {}/{}", githubIssue.getTitle(), owner, repoName);
+    /**
+     * A cursor without history fetches all open issues. Once a cursor has seen issues it asks only
+     * for issues updated since then, including closed ones, and replays the stored ETag so an
+     * unchanged repository costs a single 304.
+     */
+    private Flux<GitHubPage> fetchChangedPages(RepositorySyncCursor cursor) {
+        String query = cursor.getLastUpdatedAt() == null
+                ? "state=open&per_page=100"
+                : "state=all&per_page=100&since=" + cursor.getLastUpdatedAt().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME) + "Z";
+        URI firstPage = URI.create(githubApiBaseUrl + "/repos/" + cursor.getOwner() + "/" + cursor.getRepository()
+                + "/issues?" + query);
+
+        return fetchPage(firstPage, cursor.getEtag())
+                .expand(page -> page.next() != null ? fetchPage(page.next(), null) : Mono.empty());
+    }
+
+    public IssueSyncResult syncIssuesFromGitHub() {
+        return syncIssuesFromGitHub(SyncProgressListener.NONE);
+    }
+
+    public IssueSyncResult syncIssuesFromGitHub(SyncProgressListener listener) {
+        log.info("Starting GitHub issues synchronization");
+
+        List<TrackedRepository> repositories = trackedRepositoryService.findDueForSync();
+        listener.onStart(repositories.size());
+
+        long startedAt = System.nanoTime();
+        IssueSyncResult result = Flux.fromIterable(repositories)
+                .flatMap(repo -> syncRepository(repo, listener), syncConcurrency)
+                .reduce(IssueSyncResult.EMPTY, IssueSyncResult::plus)
+                .block();
+
+        long elapsedNanos = System.nanoTime() - startedAt;
+        log.info("GitHub issues synchronization completed: {} across {} repositories in {} ms ({} rows/s)",
+                result, repositories.size(), elapsedNanos / 1_000_000,
+                IssueSyncWriter.rowsPerSecond(result.processed(), elapsedNanos));
+        return result;
+    }
+
+    private Mono<IssueSyncResult> syncRepository(TrackedRepository trackedRepository, SyncProgressListener listener) {
+        String owner = trackedRepository.getOwner();
+        String repoName = trackedRepository.getRepository();
+        String repo = trackedRepository.getFullName();
+
+        return Mono.defer(() -> {
+                    Timer.Sample sample = Timer.start(meterRegistry);
+                    return Mono.fromCallable(() -> syncCursorRepository.findByOwnerAndRepository(owner, repoName)
+                                    .orElseGet(() -> RepositorySyncCursor.builder().owner(owner).repository(repoName).build()))
+                            .subscribeOn(jdbcScheduler)
+                            .flatMap(this::syncChanges)
+                            .doOnNext(result -> {
+                                log.info("Synced {} from {}", result, repo);
+                                recordRepositorySync(repo, sample, "success", result);
+                                listener.onRepositorySynced(repo, result);
+                            })
+                            .onErrorResume(e -> {
+                                log.error("Error syncing repository {}: {}", repo, e.getMessage());
+                                recordRepositorySync(repo, sample, "failure", IssueSyncResult.EMPTY);
+                                listener.onRepositoryFailed(repo, e);
+                                return Mono.just(IssueSyncResult.EMPTY);
+                            });
+                })
+                // Failed attempts count too, otherwise a broken repository would head every run
+                .flatMap(result -> Mono.fromCallable(() -> {
+                            trackedRepositoryService.markSynced(trackedRepository);
+                            return result;
+                        })
+                        .subscribeOn(jdbcScheduler)
+                        .onErrorResume(e -> {
+                            log.warn("Could not record sync attempt for {}: {}", repo, e.getMessage());
+                            return Mono.just(result);
+                        }));
+    }
+
+    private void recordRepositorySync(String repo, Timer.Sample sample, String outcome, IssueSyncResult result) {
+        sample.stop(Timer.builder("devvault.sync.repository")
+                .description("Duration of one repository's incremental GitHub sync")
+                .tag("repository", repo)
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+        meterRegistry.counter("devvault.sync.issues.fetched", "repository", repo).increment(result.processed());
+        meterRegistry.counter("devvault.sync.issues.inserted", "repository", repo).increment(result.inserted());
+        meterRegistry.counter("devvault.sync.issues.updated", "repository", repo).increment(result.updated());
     }
 
-    private Issue.Difficulty determineDifficulty(List<GitHubIssueDto.Label> labels) {
+    private Mono<IssueSyncResult> syncChanges(RepositorySyncCursor cursor) {
+        AtomicBoolean firstPage = new AtomicBoolean(true);
+        AtomicBoolean notModified = new AtomicBoolean(false);
+        AtomicReference<String> etag = new AtomicReference<>();
+        AtomicReference<LocalDateTime> newestUpdate = new AtomicReference<>(cursor.getLastUpdatedAt());
+
+        return fetchChangedPages(cursor)
+                .concatMap(page -> {
+                    if (firstPage.getAndSet(false)) {
+                        etag.set(page.etag());
+                        notModified.set(page.notModified());
+                    }
+                    page.issues().stream()
+                            .map(GitHubIssueDto::getUpdatedAt)
+                            .filter(Objects::nonNull)
+                            .forEach(updatedAt -> newestUpdate.accumulateAndGet(updatedAt,
+                                    (current, candidate) -> current == null || candidate.isAfter(current) ? candidate : current));
+                    if (page.issues().isEmpty()) {
+                        return Mono.just(IssueSyncResult.EMPTY);
+                    }
+                    // Writes are blocking JDBC, so each page is persisted in its own short transaction off the event loop
+                    return Mono.fromCallable(() -> issueSyncWriter.writeBatch(page.issues(), cursor.getOwner(), cursor.getRepository()))
+                            .subscribeOn(jdbcScheduler);
+                })
+                .reduce(IssueSyncResult.EMPTY, IssueSyncResult::plus)
+                .flatMap(result -> Mono.fromCallable(() -> {
+                            // Only advance the cursor once every page of this pass has been written
+                            if (!notModified.get()) {
+                                cursor.setEtag(etag.get());
+                                cursor.setLastUpdatedAt(newestUpdate.get());
+                            }
+                            cursor.setLastSyncedAt(LocalDateTime.now());
+                            syncCursorRepository.save(cursor);
+                            return result;
+                        })
+                        .subscribeOn(jdbcScheduler));
+    }
+
+    private Mono<GitHubPage> fetchPage(URI uri, String etag) {
+        return Mono.defer(rateLimiter::awaitCapacity)
+                .then(githubWebClient.get()
+                        .uri(uri)
+                        .headers(headers -> {
+                            if (etag != null) {
+                                headers.setIfNoneMatch(etag);
+                            }
+                        })
+                        .retrieve()
+                        .toEntity(ISSUE_LIST_TYPE))
+                .map(this::toPage);
+    }
+
+    private GitHubPage toPage(ResponseEntity<List<GitHubIssueDto>> response) {
+        rateLimiter.update(response.getHeaders());
+        if (response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+            return new GitHubPage(List.of(), null, response.getHeaders().getETag(), true);
+        }
+        List<GitHubIssueDto> issues = response.getBody() != null ? response.getBody() : List.of();
+        return new GitHubPage(issues, nextPage(response.getHeaders()), response.getHeaders().getETag(), false);
+    }
+
+    private URI nextPage(HttpHeaders headers) {
+        String link = headers.getFirst(HttpHeaders.LINK);
+        if (link == null) {
+            return null;
+        }
+        Matcher matcher = NEXT_LINK.matcher(link);
+        return matcher.find() ? URI.create(matcher.group(1)) : null;
+    }
+
+    static Issue.Difficulty determineDifficulty(List<GitHubIssueDto.Label> labels) {
         if (labels == null) return Issue.Difficulty.MEDIUM;
 
         List<String> labelNames = labels.stream()
@@ -155,11 +390,14 @@ public class GitHubService {
         return Issue.Difficulty.MEDIUM;
     }
 
-    private int calculateReward(Issue.Difficulty difficulty) {
+    static int calculateReward(Issue.Difficulty difficulty) {
         return switch (difficulty) {
             case EASY -> 100;
             case MEDIUM -> 250;
             case HARD -> 500;
         };
     }
-}
\ No newline at end of file
+
+    private record GitHubPage(List<GitHubIssueDto> issues, URI next, String etag, boolean notModified) {
+    }
+}
@@ -0,0 +1,54 @@
+package com.devvault.devvault_backend.service;
+
+import com.devvault.devvault_backend.config.CacheConfig;
+import com.devvault.devvault_backend.config.InvalidationGuardedCacheResolver;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IssueCacheInvalidator {
+
+    private final InvalidationGuardedCacheResolver cacheResolver;
+    private final IssueListingSnapshots listingSnapshots;
+    private final IssueFacetIndex facetIndex;
+
+    // After commit, so reads that start afterwards see the change. Reads already loading the old
+    // rows would put them back after the clear; the guarded caches drop those puts.
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onIssuesChanged(IssuesChangedEvent event) {
+        clear(CacheConfig.ALL_ISSUES);
+        clear(CacheConfig.AVAILABLE_ISSUES);
+        clear(CacheConfig.ISSUE_SEARCH);
+
+        Cache byUser = cacheResolver.getCache(CacheConfig.ISSUES_BY_USER);
+        if (byUser != null) {
+            if (event.userId() != null) {
+                byUser.evict(event.userId());
+            } else {
+                byUser.clear();
+            }
+        }
+        // Only after the caches above are empty, or a rebuild could re-encode the old listing
+        listingSnapshots.invalidate();
+        // Claim, unclaim and complete move one issue between status postings; only a sync rebuilds
+        if (event.isStatusChange()) {
+            facetIndex.updateStatus(event.issueId(), event.status());
+        } else {
+            facetIndex.invalidate();
+        }
+        log.debug("Evicted issue listings for {}", event);
+    }
+
+    private void clear(String cacheName) {
+        Cache cache = cacheResolver.getCache(cacheName);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+}
@@ -0,0 +1,366 @@
+package com.devvault.devvault_backend.service;
+
+import com.devvault.devvault_backend.dto.IssueFacetsDto;
+import com.devvault.devvault_backend.model.Issue;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * In-memory postings for label, difficulty, status and repository facets. Issues are numbered by
+ * their position in (created_at, id) order, the order every other listing uses, and every facet
+ * value keeps a bitset over those positions, so filters are word-wise AND/OR and a facet count is
+ * a popcount of two bitsets. Label and repository names match case-insensitively; label names are
+ * interned into a dictionary once per rebuild.
+ * <p>
+ * Only a sync needs a full rebuild: after {@link #invalidate()} the next read reloads the tables
+ * while other readers keep using the previous postings. Claims and completions go through
+ * {@link #updateStatus(Long, Issue.IssueStatus)}, which moves one bit between status postings.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IssueFacetIndex {
+
+    private static final int LABEL_FACET_LIMIT = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final AtomicLong version = new AtomicLong();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private volatile Postings postings;
+
+    public void invalidate() {
+        version.incrementAndGet();
+    }
+
+    /**
+     * Moves one issue to {@code status}. The affected status bitsets are copied, so readers holding
+     * the previous postings never see a half-applied change. Waits for a running rebuild, whose
+     * snapshot may predate this change, and patches its result instead.
+     */
+    public void updateStatus(Long issueId, Issue.IssueStatus status) {
+        rebuildLock.lock();
+        try {
+            Postings current = postings;
+            if (current == null) {
+                return;
+            }
+            int ordinal = current.ordinals().ordinalOf(issueId);
+            if (ordinal < 0) {
+                // Not indexed yet, so the next read has to pick it up from the database
+                invalidate();
+                return;
+            }
+            postings = current.withStatus(ordinal, status);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * Ids of matching issues, newest first by creation time (ties broken by id, like the other
+     * listings), for the requested page, plus the total match count.
+     * {@code candidateIds} narrows the result to e.g. full-text hits; {@code null} means all issues.
+     */
+    public FilterResult filter(IssueFilter filter, Collection<Long> candidateIds, int page, int size) {
+        Postings current = current();
+        long[] matches = current.match(filter, candidateIds);
+
+        List<Long> ids = new ArrayList<>(size);
+        long skip = (long) page * size;
+        for (int ordinal = previousSetBit(matches, current.issueIds.length - 1);
+             ordinal >= 0 && ids.size() < size;
+             ordinal = previousSetBit(matches, ordinal - 1)) {
+            if (skip > 0) {
+                skip--;
+            } else {
+                ids.add(current.issueIds[ordinal]);
+            }
+        }
+        return new FilterResult(ids, cardinality(matches));
+    }
+
+    public IssueFacetsDto facets(IssueFilter filter, Collection<Long> candidateIds) {
+        Postings current = current();
+        long[] matches = current.match(filter, candidateIds);
+
+        Map<String, Long> labels = new LinkedHashMap<>();
+        List<Map.Entry<String, Long>> labelCounts = new ArrayList<>();
+        for (int label = 0; label < current.labelNames.length; label++) {
+            long count = intersectionCount(matches, current.labelBits[label]);
+            if (count > 0) {
+                labelCounts.add(Map.entry(current.labelNames[label], count));
+            }
+        }
+        labelCounts.stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.<String, Long>comparingByKey()))
+                .limit(LABEL_FACET_LIMIT)
+                .forEach(entry -> labels.put(entry.getKey(), entry.getValue()));
+
+        return IssueFacetsDto.builder()
+                .total(cardinality(matches))
+                .labels(labels)
+                .difficulties(counts(matches, current.difficultyBits, Issue.Difficulty::name))
+                .statuses(counts(matches, current.statusBits, Issue.IssueStatus::name))
+                .repositories(counts(matches, current.repositoryBits, current.repositoryNames::get))
+                .build();
+    }
+
+    private Postings current() {
+        Postings current = postings;
+        long target = version.get();
+        if (current != null && current.version == target) {
+            return current;
+        }
+        if (current != null && !rebuildLock.tryLock()) {
+            // Someone else is rebuilding; slightly stale counts beat waiting on the rebuild
+            return current;
+        }
+        if (current == null) {
+            rebuildLock.lock();
+        }
+        try {
+            target = version.get();
+            current = postings;
+            if (current == null || current.version != target) {
+                current = build(target);
+                postings = current;
+            }
+            return current;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private Postings build(long targetVersion) {
+        long startedAt = System.nanoTime();
+
+        List<Long> ids = new ArrayList<>();
+        List<String> repositories = new ArrayList<>();
+        List<String> difficulties = new ArrayList<>();
+        List<String> statuses = new ArrayList<>();
+        jdbcTemplate.query("SELECT id, repository, difficulty, status FROM issues ORDER BY created_at, id", rs -> {
+            ids.add(rs.getLong("id"));
+            repositories.add(rs.getString("repository"));
+            difficulties.add(rs.getString("difficulty"));
+            statuses.add(rs.getString("status"));
+        });
+
+        long[] issueIds = ids.stream().mapToLong(Long::longValue).toArray();
+        int words = Math.max(1, (issueIds.length + 63) >>> 6);
+        OrdinalLookup ordinals = OrdinalLookup.of(issueIds);
+
+        Map<Issue.Difficulty, long[]> difficultyBits = new EnumMap<>(Issue.Difficulty.class);
+        Map<Issue.IssueStatus, long[]> statusBits = new EnumMap<>(Issue.IssueStatus.class);
+        Map<String, long[]> repositoryBits = new HashMap<>();
+        Map<String, String> repositoryNames = new HashMap<>();
+        for (int ordinal = 0; ordinal < issueIds.length; ordinal++) {
+            set(difficultyBits.computeIfAbsent(Issue.Difficulty.valueOf(difficulties.get(ordinal)), d -> new long[words]), ordinal);
+            if (statuses.get(ordinal) != null) {
+                set(statusBits.computeIfAbsent(Issue.IssueStatus.valueOf(statuses.get(ordinal)), s -> new long[words]), ordinal);
+            }
+            String repository = repositories.get(ordinal);
+            String repositoryKey = repository.toLowerCase(Locale.ROOT);
+            repositoryNames.putIfAbsent(repositoryKey, repository);
+            set(repositoryBits.computeIfAbsent(repositoryKey, r -> new long[words]), ordinal);
+        }
+
+        Map<String, Integer> labelIds = new HashMap<>();
+        List<String> labelNames = new ArrayList<>();
+        List<long[]> labelBits = new ArrayList<>();
+        jdbcTemplate.query("SELECT issue_id, label FROM issue_labels WHERE label IS NOT NULL", rs -> {
+            int ordinal = ordinals.ordinalOf(rs.getLong("issue_id"));
+            if (ordinal < 0) {
+                return;
+            }
+            String label = rs.getString("label");
+            int labelId = labelIds.computeIfAbsent(label.toLowerCase(Locale.ROOT), key -> {
+                labelNames.add(label);
+                labelBits.add(new long[words]);
+                return labelNames.size() - 1;
+            });
+            set(labelBits.get(labelId), ordinal);
+        });
+
+        log.debug("Built facet index for {} issues and {} labels in {} ms",
+                issueIds.length, labelNames.size(), (System.nanoTime() - startedAt) / 1_000_000);
+        return new Postings(targetVersion, issueIds, ordinals, words, labelIds, labelNames.toArray(String[]::new),
+                labelBits.toArray(long[][]::new), difficultyBits, statusBits, repositoryBits, repositoryNames);
+    }
+
+    private static <K> Map<String, Long> counts(long[] matches, Map<K, long[]> postings, Function<K, String> name) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        postings.entrySet().stream()
+                .map(entry -> Map.entry(name.apply(entry.getKey()), intersectionCount(matches, entry.getValue())))
+                .filter(entry -> entry.getValue() > 0)
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.<String, Long>comparingByKey()))
+                .forEach(entry -> counts.put(entry.getKey(), entry.getValue()));
+        return counts;
+    }
+
+    private static void set(long[] bits, int ordinal) {
+        bits[ordinal >>> 6] |= 1L << ordinal;
+    }
+
+    private static long cardinality(long[] bits) {
+        long count = 0;
+        for (long word : bits) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    private static long intersectionCount(long[] a, long[] b) {
+        long count = 0;
+        for (int i = 0; i < a.length; i++) {
+            count += Long.bitCount(a[i] & b[i]);
+        }
+        return count;
+    }
+
+    private static int previousSetBit(long[] bits, int from) {
+        if (from < 0) {
+            return -1;
+        }
+        int wordIndex = from >>> 6;
+        long word = bits[wordIndex] & (-1L >>> (63 - (from & 63)));
+        while (true) {
+            if (word != 0) {
+                return (wordIndex << 6) + 63 - Long.numberOfLeadingZeros(word);
+            }
+            if (wordIndex-- == 0) {
+                return -1;
+            }
+            word = bits[wordIndex];
+        }
+    }
+
+    public record FilterResult(List<Long> issueIds, long total) {
+    }
+
+    // Maps issue ids back to ordinals, which follow creation time rather than id
+    private record OrdinalLookup(long[] sortedIds, int[] ordinals) {
+
+        static OrdinalLookup of(long[] issueIds) {
+            Integer[] order = new Integer[issueIds.length];
+            for (int ordinal = 0; ordinal < order.length; ordinal++) {
+                order[ordinal] = ordinal;
+            }
+            Arrays.sort(order, (a, b) -> Long.compare(issueIds[a], issueIds[b]));
+
+            long[] sortedIds = new long[order.length];
+            int[] ordinals = new int[order.length];
+            for (int i = 0; i < order.length; i++) {
+                sortedIds[i] = issueIds[order[i]];
+                ordinals[i] = order[i];
+            }
+            return new OrdinalLookup(sortedIds, ordinals);
+        }
+
+        int ordinalOf(long issueId) {
+            int index = Arrays.binarySearch(sortedIds, issueId);
+            return index >= 0 ? ordinals[index] : -1;
+        }
+    }
+
+    private record Postings(long version,
+                            long[] issueIds,
+                            OrdinalLookup ordinals,
+                            int words,
+                            Map<String, Integer> labelIds,
+                            String[] labelNames,
+                            long[][] labelBits,
+                            Map<Issue.Difficulty, long[]> difficultyBits,
+                            Map<Issue.IssueStatus, long[]> statusBits,
+                            Map<String, long[]> repositoryBits,
+                            Map<String, String> repositoryNames) {
+
+        Postings withStatus(int ordinal, Issue.IssueStatus status) {
+            Map<Issue.IssueStatus, long[]> updated = new EnumMap<>(Issue.IssueStatus.class);
+            statusBits.forEach((key, bits) -> {
+                if (key != status && (bits[ordinal >>> 6] & (1L << ordinal)) != 0) {
+                    long[] copy = bits.clone();
+                    copy[ordinal >>> 6] &= ~(1L << ordinal);
+                    updated.put(key, copy);
+                } else {
+                    updated.put(key, bits);
+                }
+            });
+            long[] target = updated.get(status);
+            long[] copy = target != null ? target.clone() : new long[words];
+            set(copy, ordinal);
+            updated.put(status, copy);
+            return new Postings(version, issueIds, ordinals, words, labelIds, labelNames, labelBits,
+                    difficultyBits, updated, repositoryBits, repositoryNames);
+        }
+
+        long[] match(IssueFilter filter, Collection<Long> candidateIds) {
+            long[] matches = new long[words];
+            if (candidateIds == null) {
+                for (int ordinal = 0; ordinal < issueIds.length; ordinal++) {
+                    set(matches, ordinal);
+                }
+            } else {
+                for (Long id : candidateIds) {
+                    int ordinal = ordinals.ordinalOf(id);
+                    if (ordinal >= 0) {
+                        set(matches, ordinal);
+                    }
+                }
+            }
+
+            if (filter.difficulty() != null) {
+                and(matches, difficultyBits.get(filter.difficulty()));
+            }
+            if (filter.status() != null) {
+                and(matches, statusBits.get(filter.status()));
+            }
+            if (filter.repository() != null && !filter.repository().isBlank()) {
+                and(matches, repositoryBits.get(filter.repository().trim().toLowerCase(Locale.ROOT)));
+            }
+            for (String label : filter.allLabels()) {
+                and(matches, label(label));
+            }
+            if (!filter.anyLabels().isEmpty()) {
+                long[] any = new long[words];
+                for (String label : filter.anyLabels()) {
+                    long[] bits = label(label);
+                    if (bits != null) {
+                        for (int i = 0; i < words; i++) {
+                            any[i] |= bits[i];
+                        }
+                    }
+                }
+                and(matches, any);
+            }
+            return matches;
+        }
+
+        private long[] label(String name) {
+            Integer labelId = labelIds.get(name.trim().toLowerCase(Locale.ROOT));
+            return labelId != null ? labelBits[labelId] : null;
+        }
+
+        // A missing posting list means no issue has that value
+        private static void and(long[] matches, long[] bits) {
+            for (int i = 0; i < matches.length; i++) {
+                matches[i] &= bits != null ? bits[i] : 0L;
+            }
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.devvault.devvault_backend.service;
+
+import com.devvault.devvault_backend.model.Issue;
+
+import java.util.List;
+
+/**
+ * Criteria shared by filtered listings and facet counts. Label names are matched
+ * case-insensitively; {@code anyLabels} needs one match, {@code allLabels} needs every one.
+ */
+public record IssueFilter(String searchTerm,
+                          Issue.Difficulty difficulty,
+                          Issue.IssueStatus status,
+                          String repository,
+                          List<String> anyLabels,
+                          List<String> allLabels) {
+
+    public IssueFilter {
+        anyLabels = anyLabels != null ? List.copyOf(anyLabels) : List.of();
+        allLabels = allLabels != null ? List.copyOf(allLabels) : List.of();
+    }
+
+    boolean hasSearchTerm() {
+        return searchTerm != null && !searchTerm.isBlank();
+    }
+}
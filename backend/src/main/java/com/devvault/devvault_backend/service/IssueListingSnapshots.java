@@ -0,0 +1,112 @@
+package com.devvault.devvault_backend.service;
+
+import com.devvault.devvault_backend.dto.ApiResponse;
+import com.devvault.devvault_backend.dto.IssueSummaryDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.EnumMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Hot issue listings kept as ready-to-send {@code ApiResponse} JSON, plain and gzipped. A
+ * snapshot is tagged with the change version it was built from and is only rebuilt, by one
+ * thread, after {@link #invalidate()} moves the version on.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IssueListingSnapshots {
+
+    public enum Listing {
+        ALL, AVAILABLE
+    }
+
+    private final IssueService issueService;
+    private final ObjectMapper objectMapper;
+
+    private final AtomicLong version = new AtomicLong();
+    private final Map<Listing, EncodedListing> snapshots = new ConcurrentHashMap<>();
+    private final Map<Listing, ReentrantLock> rebuildLocks = new EnumMap<>(Map.of(
+            Listing.ALL, new ReentrantLock(),
+            Listing.AVAILABLE, new ReentrantLock()));
+
+    public EncodedListing get(Listing listing) {
+        EncodedListing current = snapshots.get(listing);
+        if (current != null && current.version() == version.get()) {
+            return current;
+        }
+
+        ReentrantLock lock = rebuildLocks.get(listing);
+        lock.lock();
+        try {
+            // Read the version before loading so a change committed mid-build forces another rebuild
+            long target = version.get();
+            current = snapshots.get(listing);
+            if (current != null && current.version() == target) {
+                return current;
+            }
+            EncodedListing rebuilt = encode(target, load(listing));
+            snapshots.put(listing, rebuilt);
+            log.debug("Rebuilt {} issue listing at version {} ({} bytes, {} gzipped)",
+                    listing, target, rebuilt.json().length, rebuilt.gzip().length);
+            return rebuilt;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void invalidate() {
+        version.incrementAndGet();
+    }
+
+    private List<IssueSummaryDto> load(Listing listing) {
+        return switch (listing) {
+            case ALL -> issueService.getAllIssues();
+            case AVAILABLE -> issueService.getAvailableIssues();
+        };
+    }
+
+    private EncodedListing encode(long snapshotVersion, List<IssueSummaryDto> issues) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(ApiResponse.success(issues));
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(json.length / 4);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+                gzip.write(json);
+            }
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            return new EncodedListing(snapshotVersion, HexFormat.of().formatHex(digest, 0, 16), json, compressed.toByteArray());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Representations of one listing. Each encoding gets its own strong ETag, as the bytes differ.
+     */
+    public record EncodedListing(long version, String hash, byte[] json, byte[] gzip) {
+
+        public String etag() {
+            return "\"" + hash + "\"";
+        }
+
+        public String gzipEtag() {
+            return "\"" + hash + "-gzip\"";
+        }
+    }
+}
@@ -1,130 +1,349 @@
 package com.devvault.devvault_backend.service;
 
+import com.devvault.devvault_backend.config.CacheConfig;
+import com.devvault.devvault_backend.config.InvalidationGuardedCacheResolver;
+import com.devvault.devvault_backend.dto.CursorPage;
 import com.devvault.devvault_backend.dto.IssueDto;
+import com.devvault.devvault_backend.dto.IssueFacetsDto;
+import com.devvault.devvault_backend.dto.IssueSearchResultDto;
+import com.devvault.devvault_backend.dto.IssueSummaryDto;
+import com.devvault.devvault_backend.dto.SearchPage;
 import com.devvault.devvault_backend.exception.IssueAlreadyClaimedException;
 import com.devvault.devvault_backend.exception.ResourceNotFoundException;
 import com.devvault.devvault_backend.model.Issue;
-import com.devvault.devvault_backend.model.User;
 import com.devvault.devvault_backend.repository.IssueRepository;
+import com.devvault.devvault_backend.repository.IssueLabelView;
+import com.devvault.devvault_backend.repository.IssueSearchHit;
+import com.devvault.devvault_backend.repository.IssueSummaryView;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.util.HtmlUtils;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
+@Timed(value = "devvault.issue.service", description = "IssueService operations")
 public class IssueService {
 
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+    private static final int STREAM_CHUNK_SIZE = 500;
+    // Keeps label lookups well under PostgreSQL's bind parameter limit
+    private static final int LABEL_LOOKUP_BATCH_SIZE = 1000;
+
     private final IssueRepository issueRepository;
     private final UserService userService;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final IssueFacetIndex facetIndex;
+    private final MeterRegistry meterRegistry;
 
-    public List<IssueDto> getAllIssues() {
+    // Cached listings are shared between callers, so they are returned as unmodifiable lists
+    @Cacheable(cacheNames = CacheConfig.ALL_ISSUES, cacheResolver = InvalidationGuardedCacheResolver.NAME)
+    public List<IssueSummaryDto> getAllIssues() {
         log.info("Fetching all issues");
-        List<Issue> issues = issueRepository.findAll();
-        return issues.stream()
+        return toSummaries(issueRepository.findAllSummaries());
+    }
+
+    @Transactional(readOnly = true)
+    public IssueDto getIssue(Long issueId) {
+        return issueRepository.findWithLabelsById(issueId)
                 .map(this::convertToDto)
-                .collect(Collectors.toList());
+                .orElseThrow(() -> new ResourceNotFoundException("Issue not found with ID: " + issueId));
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<IssueDto> getIssuesPage(String cursor, Integer size) {
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        log.info("Fetching issues page of size {} after cursor {}", pageSize, cursor);
+
+        IssueCursor position = cursor == null || cursor.isBlank() ? null : IssueCursor.decode(cursor);
+        // Fetch one extra row to learn whether another page exists without a COUNT query
+        List<Issue> issues = fetchPage(position, pageSize + 1);
+
+        boolean hasMore = issues.size() > pageSize;
+        List<Issue> page = hasMore ? issues.subList(0, pageSize) : issues;
+
+        return CursorPage.<IssueDto>builder()
+                .items(page.stream().map(this::convertToDto).collect(Collectors.toList()))
+                .nextCursor(hasMore ? IssueCursor.of(page.get(page.size() - 1)).encode() : null)
+                .hasMore(hasMore)
+                .size(pageSize)
+                .build();
     }
 
-    public List<IssueDto> getAvailableIssues() {
+    @Transactional(readOnly = true)
+    public void streamAllIssues(Consumer<IssueDto> consumer) {
+        log.info("Streaming all issues");
+        IssueCursor position = null;
+        List<Issue> chunk;
+        do {
+            // Walk the table in keyset chunks so labels can be batch-fetched per chunk
+            chunk = fetchPage(position, STREAM_CHUNK_SIZE);
+            chunk.forEach(issue -> consumer.accept(convertToDto(issue)));
+            if (!chunk.isEmpty()) {
+                position = IssueCursor.of(chunk.get(chunk.size() - 1));
+            }
+            // Clear each chunk so the persistence context does not grow with the table
+            entityManager.clear();
+        } while (chunk.size() == STREAM_CHUNK_SIZE);
+    }
+
+    private List<Issue> fetchPage(IssueCursor position, int limit) {
+        PageRequest pageRequest = PageRequest.of(0, limit);
+        if (position == null) {
+            return issueRepository.findFirstPage(pageRequest);
+        }
+        return issueRepository.findPageAfter(position.createdAt(), position.id(), pageRequest);
+    }
+
+    @Cacheable(cacheNames = CacheConfig.AVAILABLE_ISSUES, cacheResolver = InvalidationGuardedCacheResolver.NAME)
+    public List<IssueSummaryDto> getAvailableIssues() {
         log.info("Fetching available issues");
-        List<Issue> issues = issueRepository.findAvailableIssues(Issue.IssueStatus.OPEN);
-        return issues.stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        return toSummaries(issueRepository.findAvailableSummaries());
     }
 
-    public List<IssueDto> getIssuesByUser(Long userId) {
+    @Cacheable(cacheNames = CacheConfig.ISSUES_BY_USER, cacheResolver = InvalidationGuardedCacheResolver.NAME)
+    public List<IssueSummaryDto> getIssuesByUser(Long userId) {
         log.info("Fetching issues for user ID: {}", userId);
-        User user = userService.findById(userId);
-        List<Issue> issues = issueRepository.findByClaimedBy(user);
-        return issues.stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        return toSummaries(issueRepository.findSummariesByClaimedById(userId));
     }
 
-    public List<IssueDto> searchIssues(String searchTerm, Issue.Difficulty difficulty, Issue.IssueStatus status) {
+    @Cacheable(cacheNames = CacheConfig.ISSUE_SEARCH, cacheResolver = InvalidationGuardedCacheResolver.NAME)
+    public List<IssueSummaryDto> searchIssues(String searchTerm, Issue.Difficulty difficulty, Issue.IssueStatus status) {
         log.info("Searching issues with term: {}, difficulty: {}, status: {}", searchTerm, difficulty, status);
-        List<Issue> issues = issueRepository.findIssuesWithFilters(
-                searchTerm != null ? searchTerm : "",
-                difficulty,
-                status
-        );
-        return issues.stream()
-                .map(this::convertToDto)
+        if (searchTerm == null || searchTerm.isBlank()) {
+            return toSummaries(issueRepository.findSummariesByFilters(difficulty, status));
+        }
+        // Unlike the ranked endpoint this returns every match, read a page of ids at a time
+        List<Long> ids = new ArrayList<>();
+        List<IssueSearchHit> hits;
+        do {
+            hits = findRankedHits(searchTerm, difficulty, status, null, MAX_PAGE_SIZE, ids.size());
+            hits.forEach(hit -> ids.add(hit.getId()));
+        } while (hits.size() == MAX_PAGE_SIZE);
+        return summariesInOrder(ids);
+    }
+
+    /**
+     * Label, difficulty, status and repository filtering served from the facet index; only the
+     * requested page of summaries is read from the database.
+     */
+    public SearchPage<IssueSummaryDto> filterIssues(IssueFilter filter, Integer page, Integer size) {
+        int pageNumber = page == null ? 0 : Math.max(page, 0);
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        log.info("Filtering issues with {} page {} size {}", filter, pageNumber, pageSize);
+
+        IssueFacetIndex.FilterResult result = facetIndex.filter(filter, searchCandidates(filter), pageNumber, pageSize);
+
+        return SearchPage.<IssueSummaryDto>builder()
+                .items(summariesInOrder(result.issueIds()))
+                .page(pageNumber)
+                .size(pageSize)
+                .total(result.total())
+                .build();
+    }
+
+    public IssueFacetsDto getFacets(IssueFilter filter) {
+        log.info("Computing facets for {}", filter);
+        return facetIndex.facets(filter, searchCandidates(filter));
+    }
+
+    // Summaries in the order of ids; ids deleted since they were looked up are dropped
+    private List<IssueSummaryDto> summariesInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, IssueSummaryDto> summaries = toSummaries(issueRepository.findSummariesByIdIn(ids)).stream()
+                .collect(Collectors.toMap(summary -> Long.valueOf(summary.getId()), Function.identity()));
+        return ids.stream()
+                .map(summaries::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private List<Long> searchCandidates(IssueFilter filter) {
+        return filter.hasSearchTerm() ? issueRepository.findIdsMatchingSearch(filter.searchTerm()) : null;
+    }
+
+    @Transactional(readOnly = true)
+    public SearchPage<IssueSearchResultDto> searchIssuesRanked(String searchTerm, Issue.Difficulty difficulty,
+                                                               Issue.IssueStatus status, String label,
+                                                               Integer page, Integer size) {
+        if (searchTerm == null || searchTerm.isBlank()) {
+            throw new IllegalArgumentException("Search term is required");
+        }
+        int pageNumber = page == null ? 0 : Math.max(page, 0);
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        String labelName = label != null && !label.isBlank() ? label : null;
+        log.info("Full-text search for '{}' page {} size {}", searchTerm, pageNumber, pageSize);
+
+        List<IssueSearchHit> hits = findRankedHits(searchTerm, difficulty, status, labelName,
+                pageSize, (long) pageNumber * pageSize);
+        long total = hits.size() < pageSize && (pageNumber == 0 || !hits.isEmpty())
+                ? (long) pageNumber * pageSize + hits.size()
+                : issueRepository.countSearchMatches(searchTerm, enumName(difficulty), enumName(status), labelName);
+
+        Map<Long, Issue> issuesById = issueRepository.findByIdIn(hits.stream().map(IssueSearchHit::getId).toList())
+                .stream()
+                .collect(Collectors.toMap(Issue::getId, Function.identity()));
+
+        List<IssueSearchResultDto> results = hits.stream()
+                .filter(hit -> issuesById.containsKey(hit.getId()))
+                .map(hit -> IssueSearchResultDto.builder()
+                        .issue(convertToDto(issuesById.get(hit.getId())))
+                        .rank(hit.getRank())
+                        .titleHighlight(toHtmlHighlight(hit.getTitleHighlight()))
+                        .snippet(toHtmlHighlight(hit.getSnippet()))
+                        .build())
                 .collect(Collectors.toList());
+
+        return SearchPage.<IssueSearchResultDto>builder()
+                .items(results)
+                .page(pageNumber)
+                .size(pageSize)
+                .total(total)
+                .build();
     }
 
-    @Transactional
-    public IssueDto claimIssue(Long issueId, Long userId) {
-        log.info("User {} attempting to claim issue {}", userId, issueId);
+    private List<IssueSearchHit> findRankedHits(String searchTerm, Issue.Difficulty difficulty, Issue.IssueStatus status,
+                                                String label, int limit, long offset) {
+        return issueRepository.searchRanked(searchTerm, enumName(difficulty), enumName(status), label, limit, offset);
+    }
 
-        Issue issue = issueRepository.findById(issueId)
-                .orElseThrow(() -> new ResourceNotFoundException("Issue not found with ID: " + issueId));
+    private static String enumName(Enum<?> value) {
+        return value != null ? value.name() : null;
+    }
 
-        if (issue.getClaimedBy() != null) {
-            throw new IssueAlreadyClaimedException("Issue is already claimed by another user");
+    // GitHub titles and bodies may contain arbitrary HTML: escape everything, then only the
+    // highlight markers become markup
+    static String toHtmlHighlight(String headline) {
+        if (headline == null) {
+            return null;
         }
+        return HtmlUtils.htmlEscape(headline, "UTF-8")
+                .replace(IssueRepository.HIGHLIGHT_START, "<mark>")
+                .replace(IssueRepository.HIGHLIGHT_STOP, "</mark>");
+    }
 
-        User user = userService.findById(userId);
+    @Transactional
+    public IssueDto claimIssue(Long issueId, Long userId) {
+        log.info("User {} attempting to claim issue {}", userId, issueId);
 
-        issue.setClaimedBy(user);
-        issue.setStatus(Issue.IssueStatus.CLAIMED);
-        issue.setClaimedAt(LocalDateTime.now());
+        if (issueRepository.claimIfAvailable(issueId, userId, LocalDateTime.now()) == 0) {
+            // Lost the race or the issue was never claimable; only this slow path reads the row
+            Issue issue = findIssue(issueId);
+            if (issue.getClaimedById() != null) {
+                meterRegistry.counter("devvault.issues.claim.conflicts").increment();
+                throw new IssueAlreadyClaimedException("Issue is already claimed by another user");
+            }
+            throw new IllegalArgumentException("Issue is not open for claiming");
+        }
 
-        Issue savedIssue = issueRepository.save(issue);
         userService.incrementClaimedIssues(userId);
 
+        eventPublisher.publishEvent(IssuesChangedEvent.statusChanged(userId, issueId, Issue.IssueStatus.CLAIMED));
         log.info("Issue {} successfully claimed by user {}", issueId, userId);
-        return convertToDto(savedIssue);
+        return convertToDto(findIssue(issueId));
     }
 
     @Transactional
     public IssueDto unclaimIssue(Long issueId, Long userId) {
         log.info("User {} attempting to unclaim issue {}", userId, issueId);
 
-        Issue issue = issueRepository.findById(issueId)
-                .orElseThrow(() -> new ResourceNotFoundException("Issue not found with ID: " + issueId));
-
-        if (issue.getClaimedBy() == null || !issue.getClaimedBy().getId().equals(userId)) {
+        if (issueRepository.unclaimIfClaimedBy(issueId, userId, LocalDateTime.now()) == 0) {
+            findIssue(issueId);
             throw new IllegalArgumentException("You can only unclaim issues that you have claimed");
         }
 
-        issue.setClaimedBy(null);
-        issue.setStatus(Issue.IssueStatus.OPEN);
-        issue.setClaimedAt(null);
-
-        Issue savedIssue = issueRepository.save(issue);
         userService.decrementClaimedIssues(userId);
 
+        eventPublisher.publishEvent(IssuesChangedEvent.statusChanged(userId, issueId, Issue.IssueStatus.OPEN));
         log.info("Issue {} successfully unclaimed by user {}", issueId, userId);
-        return convertToDto(savedIssue);
+        return convertToDto(findIssue(issueId));
     }
 
     @Transactional
     public IssueDto completeIssue(Long issueId, Long userId) {
         log.info("User {} attempting to complete issue {}", userId, issueId);
 
-        Issue issue = issueRepository.findById(issueId)
-                .orElseThrow(() -> new ResourceNotFoundException("Issue not found with ID: " + issueId));
-
-        if (issue.getClaimedBy() == null || !issue.getClaimedBy().getId().equals(userId)) {
+        if (issueRepository.completeIfClaimedBy(issueId, userId, LocalDateTime.now()) == 0) {
+            findIssue(issueId);
             throw new IllegalArgumentException("You can only complete issues that you have claimed");
         }
 
-        issue.setStatus(Issue.IssueStatus.COMPLETED);
-        issue.setCompletedAt(LocalDateTime.now());
-
-        Issue savedIssue = issueRepository.save(issue);
+        Issue issue = findIssue(issueId);
         userService.updateUserStats(userId, issue.getReward());
 
+        eventPublisher.publishEvent(IssuesChangedEvent.statusChanged(userId, issueId, Issue.IssueStatus.COMPLETED));
         log.info("Issue {} successfully completed by user {}", issueId, userId);
-        return convertToDto(savedIssue);
+        return convertToDto(issue);
+    }
+
+    private Issue findIssue(Long issueId) {
+        return issueRepository.findById(issueId)
+                .orElseThrow(() -> new ResourceNotFoundException("Issue not found with ID: " + issueId));
+    }
+
+    private List<IssueSummaryDto> toSummaries(List<IssueSummaryView> views) {
+        Map<Long, List<String>> labels = new HashMap<>();
+        List<Long> ids = views.stream().map(IssueSummaryView::getId).toList();
+        for (int from = 0; from < ids.size(); from += LABEL_LOOKUP_BATCH_SIZE) {
+            List<Long> batch = ids.subList(from, Math.min(from + LABEL_LOOKUP_BATCH_SIZE, ids.size()));
+            for (IssueLabelView label : issueRepository.findLabelsByIssueIdIn(batch)) {
+                labels.computeIfAbsent(label.getIssueId(), id -> new ArrayList<>()).add(label.getLabel());
+            }
+        }
+
+        return views.stream()
+                .map(view -> IssueSummaryDto.builder()
+                        .id(view.getId().toString())
+                        .title(view.getTitle())
+                        .excerpt(excerpt(view.getExcerpt()))
+                        .difficulty(displayName(view.getDifficulty()))
+                        .reward(view.getReward())
+                        .repository(view.getRepository())
+                        .labels(labels.getOrDefault(view.getId(), List.of()))
+                        .claimed(view.getClaimedById() != null)
+                        .claimedBy(view.getClaimedById() != null ? view.getClaimedById().toString() : null)
+                        .url(view.getUrl())
+                        .createdAt(view.getCreatedAt())
+                        .build())
+                .toList();
+    }
+
+    static String excerpt(String description) {
+        if (description == null || description.length() <= IssueSummaryView.EXCERPT_LENGTH) {
+            return description;
+        }
+        int end = IssueSummaryView.EXCERPT_LENGTH;
+        // Never split a surrogate pair
+        if (Character.isHighSurrogate(description.charAt(end - 1))) {
+            end--;
+        }
+        return description.substring(0, end).stripTrailing() + "…";
+    }
+
+    private static String displayName(Issue.Difficulty difficulty) {
+        return difficulty.name().charAt(0) + difficulty.name().substring(1).toLowerCase();
     }
 
     public IssueDto convertToDto(Issue issue) {
@@ -132,12 +351,12 @@ public class IssueService {
                 .id(issue.getId().toString())
                 .title(issue.getTitle())
                 .description(issue.getDescription())
-                .difficulty(issue.getDifficulty().name().charAt(0) + issue.getDifficulty().name().substring(1).toLowerCase())
+                .difficulty(displayName(issue.getDifficulty()))
                 .reward(issue.getReward())
                 .repository(issue.getRepository())
                 .labels(issue.getLabels())
-                .claimed(issue.getClaimedBy() != null)
-                .claimedBy(issue.getClaimedBy() != null ? issue.getClaimedBy().getId().toString() : null)
+                .claimed(issue.getClaimedById() != null)
+                .claimedBy(issue.getClaimedById() != null ? issue.getClaimedById().toString() : null)
                 .url(issue.getUrl())
                 .createdAt(issue.getCreatedAt())
                 .build();
@@ -0,0 +1,10 @@
+package com.devvault.devvault_backend.service;
+
+public record IssueSyncResult(int processed, int inserted, int updated) {
+
+    public static final IssueSyncResult EMPTY = new IssueSyncResult(0, 0, 0);
+
+    public IssueSyncResult plus(IssueSyncResult other) {
+        return new IssueSyncResult(processed + other.processed, inserted + other.inserted, updated + other.updated);
+    }
+}
@@ -0,0 +1,220 @@
+package com.devvault.devvault_backend.service;
+
+import com.devvault.devvault_backend.dto.GitHubIssueDto;
+import com.devvault.devvault_backend.model.Issue;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk ingest path for one page of GitHub issues. A page costs a fixed number of round trips
+ * regardless of its size: one IN lookup of existing ids and labels, one batched upsert backed by
+ * the unique github_id index, one id lookup for new rows and batched label rewrites. Each page
+ * runs in its own short transaction, so the sync pipeline never holds a connection while it
+ * waits on the network.
+ * <p>
+ * Pull requests, which the issues API also returns, are never imported. Open issues closed
+ * upstream (and pull requests imported before they were filtered out) are retired with status
+ * CLOSED. Claimed, in-progress and completed ones are left to their claimer, so a claim is never
+ * closed out from under them.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IssueSyncWriter {
+
+    // Claimed, in-progress and completed issues belong to DevVault; only unclaimed ones follow GitHub state
+    private static final String UPSERT_ISSUE = "INSERT INTO issues " +
+            "(github_id, title, description, repository, owner, url, difficulty, reward, status, created_at, updated_at) " +
+            "VALUES (:githubId, :title, :description, :repository, :owner, :url, :difficulty, :reward, :status, :createdAt, :updatedAt) " +
+            "ON CONFLICT (github_id) DO UPDATE SET " +
+            "title = EXCLUDED.title, " +
+            "description = EXCLUDED.description, " +
+            "url = EXCLUDED.url, " +
+            "status = CASE WHEN issues.status IN ('OPEN', 'CLOSED') THEN EXCLUDED.status ELSE issues.status END, " +
+            "difficulty = CASE WHEN issues.status IN ('OPEN', 'CLOSED') THEN EXCLUDED.difficulty ELSE issues.difficulty END, " +
+            "reward = CASE WHEN issues.status IN ('OPEN', 'CLOSED') THEN EXCLUDED.reward ELSE issues.reward END, " +
+            "updated_at = EXCLUDED.updated_at " +
+            "WHERE issues.title IS DISTINCT FROM EXCLUDED.title " +
+            "OR issues.description IS DISTINCT FROM EXCLUDED.description " +
+            "OR issues.url IS DISTINCT FROM EXCLUDED.url " +
+            "OR (issues.status IN ('OPEN', 'CLOSED') AND (issues.status, issues.difficulty, issues.reward) " +
+            "IS DISTINCT FROM (EXCLUDED.status, EXCLUDED.difficulty, EXCLUDED.reward))";
+
+    private static final String CLOSE_ISSUES = "UPDATE issues SET status = 'CLOSED', updated_at = :now " +
+            "WHERE github_id IN (:githubIds) AND status = 'OPEN'";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public IssueSyncResult writeBatch(List<GitHubIssueDto> githubIssues, String owner, String repoName) {
+        long startedAt = System.nanoTime();
+
+        // Later duplicates win, GitHub pages can shift while we walk them
+        Map<String, GitHubIssueDto> byGithubId = new LinkedHashMap<>();
+        for (GitHubIssueDto githubIssue : githubIssues) {
+            byGithubId.put(githubIssue.getId().toString(), githubIssue);
+        }
+
+        Map<String, Long> existingIds = findIssueIds(byGithubId.keySet());
+        Map<Long, List<String>> existingLabels = findLabels(existingIds.values());
+
+        List<GitHubIssueDto> rows = byGithubId.values().stream()
+                .filter(issue -> !isRetired(issue))
+                .collect(Collectors.toList());
+        // Retired items that were never imported are simply skipped
+        List<String> retiredGithubIds = byGithubId.values().stream()
+                .filter(IssueSyncWriter::isRetired)
+                .map(issue -> issue.getId().toString())
+                .filter(existingIds::containsKey)
+                .collect(Collectors.toList());
+
+        LocalDateTime now = LocalDateTime.now();
+        int closed = retiredGithubIds.isEmpty() ? 0 : jdbcTemplate.update(CLOSE_ISSUES, new MapSqlParameterSource()
+                .addValue("githubIds", retiredGithubIds)
+                .addValue("now", Timestamp.valueOf(now)));
+        if (rows.isEmpty()) {
+            return publishIfChanged(new IssueSyncResult(githubIssues.size(), 0, closed));
+        }
+
+        SqlParameterSource[] upserts = rows.stream()
+                .map(issue -> toParameters(issue, owner, repoName, now))
+                .toArray(SqlParameterSource[]::new);
+        int[] upsertCounts = jdbcTemplate.batchUpdate(UPSERT_ISSUE, upserts);
+
+        List<String> newGithubIds = rows.stream()
+                .map(issue -> issue.getId().toString())
+                .filter(githubId -> !existingIds.containsKey(githubId))
+                .collect(Collectors.toList());
+        Map<String, Long> issueIds = new HashMap<>(existingIds);
+        issueIds.putAll(findIssueIds(newGithubIds));
+
+        int updated = closed;
+        List<Long> labelRewrites = new ArrayList<>();
+        List<SqlParameterSource> labelInserts = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            GitHubIssueDto issue = rows.get(i);
+            Long issueId = issueIds.get(issue.getId().toString());
+            boolean isNew = !existingIds.containsKey(issue.getId().toString());
+            List<String> labels = labelNames(issue);
+
+            boolean labelsChanged = !isNew && !sorted(labels).equals(sorted(existingLabels.getOrDefault(issueId, List.of())));
+            if (labelsChanged) {
+                labelRewrites.add(issueId);
+            }
+            if (isNew || labelsChanged) {
+                for (String label : labels) {
+                    labelInserts.add(new MapSqlParameterSource()
+                            .addValue("issueId", issueId)
+                            .addValue("label", label));
+                }
+            }
+            if (!isNew && (upsertCounts[i] > 0 || labelsChanged)) {
+                updated++;
+            }
+        }
+
+        if (!labelRewrites.isEmpty()) {
+            jdbcTemplate.update("DELETE FROM issue_labels WHERE issue_id IN (:issueIds)",
+                    new MapSqlParameterSource("issueIds", labelRewrites));
+        }
+        if (!labelInserts.isEmpty()) {
+            jdbcTemplate.batchUpdate("INSERT INTO issue_labels (issue_id, label) VALUES (:issueId, :label)",
+                    labelInserts.toArray(SqlParameterSource[]::new));
+        }
+
+        IssueSyncResult result = publishIfChanged(new IssueSyncResult(githubIssues.size(), newGithubIds.size(), updated));
+        long elapsedNanos = System.nanoTime() - startedAt;
+        log.debug("Wrote {} for {}/{} in {} ms ({} rows/s)", result, owner, repoName,
+                elapsedNanos / 1_000_000, rowsPerSecond(githubIssues.size(), elapsedNanos));
+        return result;
+    }
+
+    private IssueSyncResult publishIfChanged(IssueSyncResult result) {
+        if (result.inserted() > 0 || result.updated() > 0) {
+            eventPublisher.publishEvent(IssuesChangedEvent.forAllUsers());
+        }
+        return result;
+    }
+
+    static long rowsPerSecond(long rows, long elapsedNanos) {
+        return elapsedNanos > 0 ? rows * 1_000_000_000L / elapsedNanos : rows;
+    }
+
+    private Map<String, Long> findIssueIds(Collection<String> githubIds) {
+        Map<String, Long> ids = new HashMap<>();
+        if (githubIds.isEmpty()) {
+            return ids;
+        }
+        jdbcTemplate.query("SELECT id, github_id FROM issues WHERE github_id IN (:githubIds)",
+                new MapSqlParameterSource("githubIds", githubIds),
+                rs -> {
+                    ids.put(rs.getString("github_id"), rs.getLong("id"));
+                });
+        return ids;
+    }
+
+    private Map<Long, List<String>> findLabels(Collection<Long> issueIds) {
+        Map<Long, List<String>> labels = new HashMap<>();
+        if (issueIds.isEmpty()) {
+            return labels;
+        }
+        jdbcTemplate.query("SELECT issue_id, label FROM issue_labels WHERE issue_id IN (:issueIds)",
+                new MapSqlParameterSource("issueIds", issueIds),
+                rs -> {
+                    labels.computeIfAbsent(rs.getLong("issue_id"), id -> new ArrayList<>()).add(rs.getString("label"));
+                });
+        return labels;
+    }
+
+    private SqlParameterSource toParameters(GitHubIssueDto githubIssue, String owner, String repoName, LocalDateTime now) {
+        // Determine difficulty based on labels
+        Issue.Difficulty difficulty = GitHubService.determineDifficulty(githubIssue.getLabels());
+
+        return new MapSqlParameterSource()
+                .addValue("githubId", githubIssue.getId().toString())
+                .addValue("title", githubIssue.getTitle())
+                .addValue("description", githubIssue.getBody() != null ? githubIssue.getBody() : "")
+                .addValue("repository", repoName)
+                .addValue("owner", owner)
+                .addValue("url", githubIssue.getHtmlUrl())
+                .addValue("difficulty", difficulty.name())
+                // Calculate reward based on difficulty
+                .addValue("reward", GitHubService.calculateReward(difficulty))
+                .addValue("status", Issue.IssueStatus.OPEN.name())
+                .addValue("createdAt", Timestamp.valueOf(githubIssue.getCreatedAt() != null ? githubIssue.getCreatedAt() : now))
+                .addValue("updatedAt", Timestamp.valueOf(now));
+    }
+
+    private static boolean isRetired(GitHubIssueDto githubIssue) {
+        return githubIssue.getPullRequest() != null || "closed".equalsIgnoreCase(githubIssue.getState());
+    }
+
+    private static List<String> labelNames(GitHubIssueDto githubIssue) {
+        return githubIssue.getLabels() != null ?
+                githubIssue.getLabels().stream()
+                        .map(GitHubIssueDto.Label::getName)
+                        .collect(Collectors.toList()) :
+                List.of();
+    }
+
+    private static List<String> sorted(List<String> labels) {
+        return labels.stream().sorted().collect(Collectors.toList());
+    }
+}
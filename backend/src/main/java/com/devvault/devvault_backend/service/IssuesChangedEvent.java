@@ -0,0 +1,24 @@
+package com.devvault.devvault_backend.service;
+
+import com.devvault.devvault_backend.model.Issue;
+
+/**
+ * Published whenever the issue set changes. {@code userId} names the only user whose claimed
+ * issues changed, or is {@code null} when any user's issues may have changed (e.g. a sync).
+ * {@code issueId} and {@code status} are set when a single issue only changed status, so
+ * listeners can patch derived state instead of rebuilding it.
+ */
+public record IssuesChangedEvent(Long userId, Long issueId, Issue.IssueStatus status) {
+
+    public static IssuesChangedEvent statusChanged(Long userId, Long issueId, Issue.IssueStatus status) {
+        return new IssuesChangedEvent(userId, issueId, status);
+    }
+
+    public static IssuesChangedEvent forAllUsers() {
+        return new IssuesChangedEvent(null, null, null);
+    }
+
+    public boolean isStatusChange() {
+        return issueId != null && status != null;
+    }
+}
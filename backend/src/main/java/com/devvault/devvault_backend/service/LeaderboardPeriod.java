@@ -0,0 +1,23 @@
+package com.devvault.devvault_backend.service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+
+public enum LeaderboardPeriod {
+    ALL_TIME,
+    WEEKLY,
+    MONTHLY;
+
+    /**
+     * Start of the calendar window containing {@code now}, or {@code null} for the all-time board.
+     */
+    LocalDateTime windowStart(LocalDateTime now) {
+        return switch (this) {
+            case ALL_TIME -> null;
+            case WEEKLY -> now.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).truncatedTo(ChronoUnit.DAYS);
+            case MONTHLY -> now.withDayOfMonth(1).truncatedTo(ChronoUnit.DAYS);
+        };
+    }
+}
@@ -0,0 +1,158 @@
+package com.devvault.devvault_backend.service;
+
+import com.devvault.devvault_backend.dto.LeaderboardEntryDto;
+import com.devvault.devvault_backend.exception.ResourceNotFoundException;
+import com.devvault.devvault_backend.model.User;
+import com.devvault.devvault_backend.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps one {@link RankedBoard} per period in memory. Boards are seeded from the database at
+ * startup and reconciled periodically; in between they follow {@link UserStatsChangedEvent}s.
+ * Weekly and monthly boards sum the rewards of issues completed in the current calendar window
+ * and are reseeded when the window rolls over.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LeaderboardService {
+
+    public static final int DEFAULT_LIMIT = 10;
+    public static final int MAX_LIMIT = 100;
+    public static final int MAX_RADIUS = 25;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UserRepository userRepository;
+
+    private final Map<LeaderboardPeriod, RankedBoard> boards = new EnumMap<>(Map.of(
+            LeaderboardPeriod.ALL_TIME, new RankedBoard(),
+            LeaderboardPeriod.WEEKLY, new RankedBoard(),
+            LeaderboardPeriod.MONTHLY, new RankedBoard()));
+    private final Map<LeaderboardPeriod, LocalDateTime> windowStarts = new ConcurrentHashMap<>();
+    private final ReentrantLock seedLock = new ReentrantLock();
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.leaderboard.reconcile-interval-ms:3600000}",
+            initialDelayString = "${app.leaderboard.reconcile-interval-ms:3600000}")
+    public void reseedAll() {
+        LocalDateTime now = LocalDateTime.now();
+        for (LeaderboardPeriod period : LeaderboardPeriod.values()) {
+            reseed(period, now, true);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserStatsChanged(UserStatsChangedEvent event) {
+        for (LeaderboardPeriod period : LeaderboardPeriod.values()) {
+            // A board reseeded just now already counts this committed completion
+            if (!rollOverIfNeeded(period)) {
+                boards.get(period).add(event.userId(), event.xpGained());
+            }
+        }
+    }
+
+    public List<LeaderboardEntryDto> getTop(LeaderboardPeriod period, Integer offset, Integer limit) {
+        int from = offset == null ? 0 : Math.max(offset, 0);
+        int count = limit == null ? DEFAULT_LIMIT : Math.min(Math.max(limit, 1), MAX_LIMIT);
+        return toEntries(board(period).range(from + 1, count));
+    }
+
+    public List<LeaderboardEntryDto> getAround(LeaderboardPeriod period, int rank, Integer radius) {
+        int spread = radius == null ? 5 : Math.min(Math.max(radius, 0), MAX_RADIUS);
+        int from = Math.max(rank - spread, 1);
+        return toEntries(board(period).range(from, rank + spread - from + 1));
+    }
+
+    public LeaderboardEntryDto getStanding(LeaderboardPeriod period, Long userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found with ID: " + userId));
+        RankedBoard board = board(period);
+        return toEntry(board.rankOf(userId), user, board.scoreOf(userId));
+    }
+
+    private RankedBoard board(LeaderboardPeriod period) {
+        rollOverIfNeeded(period);
+        return boards.get(period);
+    }
+
+    private boolean rollOverIfNeeded(LeaderboardPeriod period) {
+        LocalDateTime start = period.windowStart(LocalDateTime.now());
+        if (start == null || start.equals(windowStarts.get(period))) {
+            return false;
+        }
+        return reseed(period, LocalDateTime.now(), false);
+    }
+
+    private boolean reseed(LeaderboardPeriod period, LocalDateTime now, boolean force) {
+        seedLock.lock();
+        try {
+            LocalDateTime start = period.windowStart(now);
+            if (!force && start != null && start.equals(windowStarts.get(period))) {
+                // Another thread already rolled this window over
+                return false;
+            }
+
+            Map<Long, Long> scores = new HashMap<>();
+            if (start == null) {
+                jdbcTemplate.query("SELECT id, xp FROM users WHERE xp > 0",
+                        rs -> {
+                            scores.put(rs.getLong("id"), rs.getLong("xp"));
+                        });
+            } else {
+                jdbcTemplate.query("SELECT claimed_by_user_id, SUM(reward) AS xp FROM issues " +
+                                "WHERE status = 'COMPLETED' AND claimed_by_user_id IS NOT NULL AND completed_at >= ? " +
+                                "GROUP BY claimed_by_user_id",
+                        rs -> {
+                            scores.put(rs.getLong("claimed_by_user_id"), rs.getLong("xp"));
+                        },
+                        Timestamp.valueOf(start));
+                windowStarts.put(period, start);
+            }
+            boards.get(period).replaceAll(scores);
+            log.info("Seeded {} leaderboard with {} users", period, scores.size());
+            return true;
+        } finally {
+            seedLock.unlock();
+        }
+    }
+
+    private List<LeaderboardEntryDto> toEntries(List<RankedBoard.Standing> standings) {
+        Map<Long, User> users = userRepository.findAllById(standings.stream().map(RankedBoard.Standing::userId).toList())
+                .stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        return standings.stream()
+                .filter(standing -> users.containsKey(standing.userId()))
+                .map(standing -> toEntry(standing.rank(), users.get(standing.userId()), standing.score()))
+                .toList();
+    }
+
+    private LeaderboardEntryDto toEntry(Integer rank, User user, long score) {
+        return LeaderboardEntryDto.builder()
+                .rank(rank)
+                .userId(user.getId().toString())
+                .name(user.getName())
+                .githubUsername(user.getGithubUsername())
+                .avatar(user.getAvatar())
+                .score(score)
+                .build();
+    }
+}
@@ -0,0 +1,22 @@
+package com.devvault.devvault_backend.service;
+
+import com.devvault.devvault_backend.dto.IssueDto;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Cached, already-mapped open issues of one GitHub repository. {@code upstreamEtag} is replayed
+ * to GitHub on refresh; {@code etag} is a strong validator of the mapped content for clients.
+ */
+public record PublicIssueSnapshot(List<IssueDto> issues, String upstreamEtag, String etag, Instant fetchedAt) {
+
+    boolean isStale(Duration ttl) {
+        return fetchedAt.plus(ttl).isBefore(Instant.now());
+    }
+
+    PublicIssueSnapshot revalidated() {
+        return new PublicIssueSnapshot(issues, upstreamEtag, etag, Instant.now());
+    }
+}
@@ -0,0 +1,217 @@
+package com.devvault.devvault_backend.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Scores ordered by score descending, then user id ascending, in a treap whose nodes carry subtree
+ * sizes. Updates, a user's rank and the entry at a given rank are all O(log n) expected. Users with
+ * no score are not ranked.
+ */
+class RankedBoard {
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Long> scores = new HashMap<>();
+    private Node root;
+
+    void add(long userId, long delta) {
+        lock.writeLock().lock();
+        try {
+            put(userId, scores.getOrDefault(userId, 0L) + delta);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void replaceAll(Map<Long, Long> seed) {
+        lock.writeLock().lock();
+        try {
+            scores.clear();
+            root = null;
+            seed.forEach(this::put);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    long scoreOf(long userId) {
+        lock.readLock().lock();
+        try {
+            return scores.getOrDefault(userId, 0L);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * One-based rank, or {@code null} when the user has no score on this board.
+     */
+    Integer rankOf(long userId) {
+        lock.readLock().lock();
+        try {
+            Long score = scores.get(userId);
+            if (score == null) {
+                return null;
+            }
+            int before = 0;
+            Node node = root;
+            while (node != null) {
+                int cmp = compare(score, userId, node);
+                if (cmp == 0) {
+                    return before + size(node.left) + 1;
+                }
+                if (cmp < 0) {
+                    node = node.left;
+                } else {
+                    before += size(node.left) + 1;
+                    node = node.right;
+                }
+            }
+            return null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Up to {@code count} standings starting at the one-based {@code fromRank}.
+     */
+    List<Standing> range(int fromRank, int count) {
+        lock.readLock().lock();
+        try {
+            List<Standing> standings = new ArrayList<>(Math.max(0, count));
+            for (int rank = Math.max(fromRank, 1); rank < fromRank + count && rank <= size(root); rank++) {
+                Node node = select(rank - 1);
+                standings.add(new Standing(rank, node.userId, node.score));
+            }
+            return standings;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return size(root);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void put(long userId, long score) {
+        Long previous = scores.remove(userId);
+        if (previous != null) {
+            root = erase(root, previous, userId);
+        }
+        if (score > 0) {
+            scores.put(userId, score);
+            Node[] parts = split(root, score, userId);
+            root = merge(merge(parts[0], new Node(score, userId)), parts[1]);
+        }
+    }
+
+    private Node select(int index) {
+        Node node = root;
+        while (node != null) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+        throw new IndexOutOfBoundsException("No standing at index " + index);
+    }
+
+    // Splits into nodes ordered before (score, userId) and the rest
+    private static Node[] split(Node node, long score, long userId) {
+        if (node == null) {
+            return new Node[]{null, null};
+        }
+        if (compare(score, userId, node) > 0) {
+            Node[] parts = split(node.right, score, userId);
+            node.right = parts[0];
+            node.update();
+            return new Node[]{node, parts[1]};
+        }
+        Node[] parts = split(node.left, score, userId);
+        node.left = parts[1];
+        node.update();
+        return new Node[]{parts[0], node};
+    }
+
+    private static Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.update();
+            return left;
+        }
+        right.left = merge(left, right.left);
+        right.update();
+        return right;
+    }
+
+    private static Node erase(Node node, long score, long userId) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = compare(score, userId, node);
+        if (cmp == 0) {
+            return merge(node.left, node.right);
+        }
+        if (cmp < 0) {
+            node.left = erase(node.left, score, userId);
+        } else {
+            node.right = erase(node.right, score, userId);
+        }
+        node.update();
+        return node;
+    }
+
+    // Negative when (score, userId) ranks ahead of the node
+    private static int compare(long score, long userId, Node node) {
+        if (score != node.score) {
+            return score > node.score ? -1 : 1;
+        }
+        return Long.compare(userId, node.userId);
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    record Standing(int rank, long userId, long score) {
+    }
+
+    private static final class Node {
+        private final long score;
+        private final long userId;
+        private final int priority = ThreadLocalRandom.current().nextInt();
+        private int size = 1;
+        private Node left;
+        private Node right;
+
+        private Node(long score, long userId) {
+            this.score = score;
+            this.userId = userId;
+        }
+
+        private void update() {
+            size = 1 + RankedBoard.size(left) + RankedBoard.size(right);
+        }
+    }
+}
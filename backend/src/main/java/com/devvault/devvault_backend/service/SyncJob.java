@@ -0,0 +1,98 @@
+package com.devvault.devvault_backend.service;
+
+import com.devvault.devvault_backend.dto.SyncJobDto;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * One background sync run. Progress counters are updated from the sync pipeline while status
+ * requests read them, so every field is safe to read without locking.
+ */
+public class SyncJob implements SyncProgressListener {
+
+    public enum Trigger {
+        MANUAL, SCHEDULED
+    }
+
+    public enum Status {
+        QUEUED, RUNNING, SUCCEEDED, FAILED
+    }
+
+    @Getter
+    private final String id = UUID.randomUUID().toString();
+    @Getter
+    private final Trigger trigger;
+    private final LocalDateTime queuedAt = LocalDateTime.now();
+    @Getter
+    private volatile Status status = Status.QUEUED;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile String error;
+    private final AtomicInteger repositoriesTotal = new AtomicInteger();
+    private final AtomicInteger repositoriesDone = new AtomicInteger();
+    private final AtomicInteger repositoriesFailed = new AtomicInteger();
+    private final AtomicLong processed = new AtomicLong();
+    private final AtomicLong inserted = new AtomicLong();
+    private final AtomicLong updated = new AtomicLong();
+
+    public SyncJob(Trigger trigger) {
+        this.trigger = trigger;
+    }
+
+    void markRunning() {
+        startedAt = LocalDateTime.now();
+        status = Status.RUNNING;
+    }
+
+    void markSucceeded() {
+        finishedAt = LocalDateTime.now();
+        status = Status.SUCCEEDED;
+    }
+
+    void markFailed(Throwable cause) {
+        error = cause.getMessage();
+        finishedAt = LocalDateTime.now();
+        status = Status.FAILED;
+    }
+
+    @Override
+    public void onStart(int repositories) {
+        repositoriesTotal.set(repositories);
+    }
+
+    @Override
+    public void onRepositorySynced(String repository, IssueSyncResult result) {
+        processed.addAndGet(result.processed());
+        inserted.addAndGet(result.inserted());
+        updated.addAndGet(result.updated());
+        repositoriesDone.incrementAndGet();
+    }
+
+    @Override
+    public void onRepositoryFailed(String repository, Throwable cause) {
+        repositoriesFailed.incrementAndGet();
+        repositoriesDone.incrementAndGet();
+    }
+
+    public SyncJobDto toDto() {
+        return SyncJobDto.builder()
+                .id(id)
+                .trigger(trigger.name())
+                .status(status.name())
+                .queuedAt(queuedAt)
+                .startedAt(startedAt)
+                .finishedAt(finishedAt)
+                .repositoriesTotal(repositoriesTotal.get())
+                .repositoriesDone(repositoriesDone.get())
+                .repositoriesFailed(repositoriesFailed.get())
+                .processed(processed.get())
+                .inserted(inserted.get())
+                .updated(updated.get())
+                .error(error)
+                .build();
+    }
+}
@@ -0,0 +1,104 @@
+package com.devvault.devvault_backend.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Runs GitHub syncs as background jobs on a dedicated thread, away from the servlet pool. At most
+ * one job is active at a time: a start request while one is running is refused rather than queued.
+ */
+@Service
+@Slf4j
+public class SyncJobService {
+
+    private static final int HISTORY_SIZE = 20;
+
+    private final GitHubService gitHubService;
+
+    private final AtomicReference<SyncJob> activeJob = new AtomicReference<>();
+    private final Deque<SyncJob> history = new ConcurrentLinkedDeque<>();
+    private final ExecutorService syncExecutor;
+
+    public SyncJobService(GitHubService gitHubService,
+                          @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.gitHubService = gitHubService;
+        // Still a single worker: jobs never overlap, the thread only changes kind
+        this.syncExecutor = Executors.newSingleThreadExecutor(virtualThreads
+                ? Thread.ofVirtual().name("github-sync-", 0).factory()
+                : Thread.ofPlatform().name("github-sync-", 0).daemon(true).factory());
+    }
+
+    /**
+     * Starts a sync unless one is already running, in which case nothing is started.
+     */
+    public Optional<SyncJob> start(SyncJob.Trigger trigger) {
+        SyncJob job = new SyncJob(trigger);
+        if (!activeJob.compareAndSet(null, job)) {
+            return Optional.empty();
+        }
+
+        history.addFirst(job);
+        while (history.size() > HISTORY_SIZE) {
+            history.pollLast();
+        }
+
+        try {
+            syncExecutor.execute(() -> run(job));
+        } catch (RejectedExecutionException e) {
+            job.markFailed(e);
+            activeJob.set(null);
+            throw e;
+        }
+        log.info("Queued {} GitHub sync job {}", trigger, job.getId());
+        return Optional.of(job);
+    }
+
+    @Scheduled(cron = "${github.sync.cron:0 0 * * * *}")
+    public void scheduledSync() {
+        if (start(SyncJob.Trigger.SCHEDULED).isEmpty()) {
+            log.info("Skipping scheduled GitHub sync, job {} is still running", activeJob().map(SyncJob::getId).orElse("?"));
+        }
+    }
+
+    public Optional<SyncJob> activeJob() {
+        return Optional.ofNullable(activeJob.get());
+    }
+
+    public Optional<SyncJob> findJob(String jobId) {
+        return history.stream().filter(job -> job.getId().equals(jobId)).findFirst();
+    }
+
+    public List<SyncJob> recentJobs() {
+        return List.copyOf(history);
+    }
+
+    private void run(SyncJob job) {
+        job.markRunning();
+        try {
+            gitHubService.syncIssuesFromGitHub(job);
+            job.markSucceeded();
+        } catch (Exception e) {
+            log.error("GitHub sync job {} failed", job.getId(), e);
+            job.markFailed(e);
+        } finally {
+            activeJob.set(null);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        syncExecutor.shutdownNow();
+    }
+}
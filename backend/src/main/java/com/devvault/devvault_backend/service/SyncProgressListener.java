@@ -0,0 +1,19 @@
+package com.devvault.devvault_backend.service;
+
+/**
+ * Receives progress of a GitHub sync run. Callbacks may arrive concurrently from the sync pipeline.
+ */
+public interface SyncProgressListener {
+
+    SyncProgressListener NONE = new SyncProgressListener() {
+    };
+
+    default void onStart(int repositories) {
+    }
+
+    default void onRepositorySynced(String repository, IssueSyncResult result) {
+    }
+
+    default void onRepositoryFailed(String repository, Throwable error) {
+    }
+}
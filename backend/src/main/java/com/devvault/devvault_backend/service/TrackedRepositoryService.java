@@ -0,0 +1,162 @@
+package com.devvault.devvault_backend.service;
+
+import com.devvault.devvault_backend.dto.TrackedRepositoryDto;
+import com.devvault.devvault_backend.dto.TrackedRepositoryRequest;
+import com.devvault.devvault_backend.exception.RepositoryAlreadyTrackedException;
+import com.devvault.devvault_backend.exception.ResourceNotFoundException;
+import com.devvault.devvault_backend.model.TrackedRepository;
+import com.devvault.devvault_backend.repository.TrackedRepositoryRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Registry of repositories the GitHub sync pulls from. Each run picks the repositories whose
+ * interval has elapsed, ordered by priority and staleness, and stops at what the remaining
+ * GitHub rate-limit budget can pay for; the rest stay due and lead the next run.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TrackedRepositoryService {
+
+    private final TrackedRepositoryRepository trackedRepositoryRepository;
+    private final GitHubRateLimiter rateLimiter;
+
+    @Value("${github.sync.max-repositories-per-run:200}")
+    private int maxRepositoriesPerRun;
+
+    // Rough GitHub requests per repository pass; unchanged repositories answer with one 304
+    @Value("${github.sync.requests-per-repository:2}")
+    private int requestsPerRepository;
+
+    // Answers the public proxy's per-request registry check without a query each time
+    private final Cache<String, Boolean> trackedLookups = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofMinutes(1))
+            .build();
+
+    public List<TrackedRepository> findDueForSync() {
+        long budget = rateLimiter.availableBudget() / Math.max(1, requestsPerRepository);
+        int limit = (int) Math.min(maxRepositoriesPerRun, budget);
+        if (limit <= 0) {
+            log.info("GitHub rate-limit budget exhausted until {}, skipping due repositories", rateLimiter.getResetAt());
+            return List.of();
+        }
+        return trackedRepositoryRepository.findDue(LocalDateTime.now(), limit);
+    }
+
+    /**
+     * Whether owner/repo is in the registry. The public GitHub proxy only serves these, so anonymous
+     * callers cannot spend the shared GitHub budget on arbitrary repositories.
+     */
+    public boolean isTracked(String owner, String repository) {
+        String key = (owner + "/" + repository).toLowerCase(Locale.ROOT);
+        // Not Cache.get(key, loader): that runs the query inside a map bin monitor, which pins a virtual thread
+        Boolean cached = trackedLookups.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        boolean tracked = trackedRepositoryRepository.existsByOwnerIgnoreCaseAndRepositoryIgnoreCase(owner, repository);
+        trackedLookups.put(key, tracked);
+        return tracked;
+    }
+
+    public void markSynced(TrackedRepository trackedRepository) {
+        trackedRepositoryRepository.markSynced(trackedRepository.getId(), LocalDateTime.now());
+    }
+
+    public List<TrackedRepositoryDto> getAll() {
+        return trackedRepositoryRepository.findAllByOrderByPriorityDescOwnerAscRepositoryAsc().stream()
+                .map(this::convertToDto)
+                .toList();
+    }
+
+    public TrackedRepositoryDto get(Long id) {
+        return convertToDto(findById(id));
+    }
+
+    @Transactional
+    public TrackedRepositoryDto create(TrackedRepositoryRequest request) {
+        if (trackedRepositoryRepository.existsByOwnerIgnoreCaseAndRepositoryIgnoreCase(request.getOwner(), request.getRepository())) {
+            throw new RepositoryAlreadyTrackedException("Repository is already tracked: "
+                    + request.getOwner() + "/" + request.getRepository());
+        }
+        TrackedRepository trackedRepository = TrackedRepository.builder()
+                .owner(request.getOwner())
+                .repository(request.getRepository())
+                .build();
+        applySettings(trackedRepository, request);
+        TrackedRepository saved = trackedRepositoryRepository.save(trackedRepository);
+        trackedLookups.invalidateAll();
+        log.info("Now tracking {}", saved.getFullName());
+        return convertToDto(saved);
+    }
+
+    @Transactional
+    public TrackedRepositoryDto update(Long id, TrackedRepositoryRequest request) {
+        TrackedRepository trackedRepository = findById(id);
+        boolean renamed = !trackedRepository.getOwner().equalsIgnoreCase(request.getOwner())
+                || !trackedRepository.getRepository().equalsIgnoreCase(request.getRepository());
+        if (renamed && trackedRepositoryRepository.existsByOwnerIgnoreCaseAndRepositoryIgnoreCase(request.getOwner(), request.getRepository())) {
+            throw new RepositoryAlreadyTrackedException("Repository is already tracked: "
+                    + request.getOwner() + "/" + request.getRepository());
+        }
+        trackedRepository.setOwner(request.getOwner());
+        trackedRepository.setRepository(request.getRepository());
+        applySettings(trackedRepository, request);
+        TrackedRepository saved = trackedRepositoryRepository.save(trackedRepository);
+        trackedLookups.invalidateAll();
+        return convertToDto(saved);
+    }
+
+    @Transactional
+    public void delete(Long id) {
+        TrackedRepository trackedRepository = findById(id);
+        trackedRepositoryRepository.delete(trackedRepository);
+        trackedLookups.invalidateAll();
+        log.info("Stopped tracking {}", trackedRepository.getFullName());
+    }
+
+    private TrackedRepository findById(Long id) {
+        return trackedRepositoryRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Tracked repository not found with ID: " + id));
+    }
+
+    private void applySettings(TrackedRepository trackedRepository, TrackedRepositoryRequest request) {
+        if (request.getEnabled() != null) {
+            trackedRepository.setEnabled(request.getEnabled());
+        }
+        if (request.getPriority() != null) {
+            trackedRepository.setPriority(request.getPriority());
+        }
+        if (request.getSyncIntervalMinutes() != null) {
+            trackedRepository.setSyncIntervalMinutes(request.getSyncIntervalMinutes());
+        }
+    }
+
+    private TrackedRepositoryDto convertToDto(TrackedRepository trackedRepository) {
+        LocalDateTime lastSyncedAt = trackedRepository.getLastSyncedAt();
+        return TrackedRepositoryDto.builder()
+                .id(trackedRepository.getId().toString())
+                .owner(trackedRepository.getOwner())
+                .repository(trackedRepository.getRepository())
+                .enabled(trackedRepository.getEnabled())
+                .priority(trackedRepository.getPriority())
+                .syncIntervalMinutes(trackedRepository.getSyncIntervalMinutes())
+                .lastSyncedAt(lastSyncedAt)
+                .nextSyncAt(lastSyncedAt == null ? null : lastSyncedAt.plusMinutes(trackedRepository.getSyncIntervalMinutes()))
+                .createdAt(trackedRepository.getCreatedAt())
+                .updatedAt(trackedRepository.getUpdatedAt())
+                .build();
+    }
+}
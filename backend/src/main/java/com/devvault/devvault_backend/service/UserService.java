@@ -6,22 +6,64 @@ import com.devvault.devvault_backend.exception.ResourceNotFoundException;
 import com.devvault.devvault_backend.exception.UserAlreadyExistsException;
 import com.devvault.devvault_backend.model.User;
 import com.devvault.devvault_backend.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.annotation.Timed;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
-public class UserService implements UserDetailsService {
+@Timed(value = "devvault.user.service", description = "UserService operations")
+public class UserService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // Opt-in: buffer completion stats in memory and flush them in batches
+    private final boolean writeBehindStats;
+    private final UserStatsBuffer statsBuffer = new UserStatsBuffer();
+
+    // Short-lived copies of authenticated users so the JWT filter does not hit the database per request
+    private final Cache<Long, User> principalCache;
+
+    public UserService(UserRepository userRepository,
+                       PasswordEncoder passwordEncoder,
+                       JdbcTemplate jdbcTemplate,
+                       ApplicationEventPublisher eventPublisher,
+                       @Value("${app.stats.write-behind.enabled:false}") boolean writeBehindStats,
+                       @Value("${app.security.principal-cache.ttl:30s}") Duration principalCacheTtl,
+                       @Value("${app.security.principal-cache.max-size:10000}") long principalCacheSize) {
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.writeBehindStats = writeBehindStats;
+        this.principalCache = Caffeine.newBuilder()
+                .expireAfterWrite(principalCacheTtl)
+                .maximumSize(principalCacheSize)
+                .build();
+    }
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
@@ -29,6 +71,22 @@ public class UserService implements UserDetailsService {
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
     }
 
+    /**
+     * Called by the DaoAuthenticationProvider after a successful login whose stored hash is weaker
+     * than the configured BCrypt strength, with the password already re-encoded.
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        User existing = userRepository.findByEmail(user.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + user.getUsername()));
+        existing.setPassword(newPassword);
+        User saved = userRepository.save(existing);
+        evictPrincipal(saved.getId());
+        log.info("Re-hashed password for user {} with the current BCrypt strength", saved.getEmail());
+        return saved;
+    }
+
     @Transactional
     public User createUser(RegisterRequest request) {
         log.info("Creating new user with email: {}", request.getEmail());
@@ -60,28 +118,101 @@ public class UserService implements UserDetailsService {
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with ID: " + id));
     }
 
+    public User findPrincipalById(Long id) {
+        // Not Cache.get(id, loader): that runs the query inside a map bin monitor, which pins a virtual thread
+        User cached = principalCache.getIfPresent(id);
+        if (cached != null) {
+            return cached;
+        }
+        User user = findById(id);
+        principalCache.put(id, user);
+        return user;
+    }
+
+    /**
+     * Drops a cached principal now and again after the surrounding transaction commits, so a
+     * concurrent request cannot re-cache the pre-commit state.
+     */
+    public void evictPrincipal(Long userId) {
+        principalCache.invalidate(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    principalCache.invalidate(userId);
+                }
+            });
+        }
+    }
+
     @Transactional
-    public User updateUserStats(Long userId, int xpGained) {
-        User user = findById(userId);
-        user.setXp(user.getXp() + xpGained);
-        user.setCompletedIssues(user.getCompletedIssues() + 1);
-        user.setReputation(user.getReputation() + (xpGained / 10)); // Simple reputation calculation
+    public void updateUserStats(Long userId, int xpGained) {
+        int reputationGained = xpGained / 10; // Simple reputation calculation
+        eventPublisher.publishEvent(new UserStatsChangedEvent(userId, xpGained, LocalDateTime.now()));
+
+        if (writeBehindStats) {
+            // Buffer only once the completion is committed, so a rolled-back one credits nothing
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        statsBuffer.record(userId, xpGained, reputationGained);
+                    }
+                });
+            } else {
+                statsBuffer.record(userId, xpGained, reputationGained);
+            }
+            return;
+        }
 
-        return userRepository.save(user);
+        evictPrincipal(userId);
+        if (userRepository.addCompletionStats(userId, xpGained, reputationGained, LocalDateTime.now()) == 0) {
+            throw new ResourceNotFoundException("User not found with ID: " + userId);
+        }
     }
 
     @Transactional
-    public User incrementClaimedIssues(Long userId) {
-        User user = findById(userId);
-        user.setClaimedIssues(user.getClaimedIssues() + 1);
-        return userRepository.save(user);
+    public void incrementClaimedIssues(Long userId) {
+        evictPrincipal(userId);
+        if (userRepository.incrementClaimedIssues(userId, LocalDateTime.now()) == 0) {
+            throw new ResourceNotFoundException("User not found with ID: " + userId);
+        }
     }
 
     @Transactional
-    public User decrementClaimedIssues(Long userId) {
-        User user = findById(userId);
-        user.setClaimedIssues(Math.max(0, user.getClaimedIssues() - 1));
-        return userRepository.save(user);
+    public void decrementClaimedIssues(Long userId) {
+        evictPrincipal(userId);
+        if (userRepository.decrementClaimedIssues(userId, LocalDateTime.now()) == 0) {
+            throw new ResourceNotFoundException("User not found with ID: " + userId);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.stats.write-behind.flush-interval-ms:1000}")
+    @PreDestroy
+    public void flushBufferedStats() {
+        List<UserStatsBuffer.UserStatsDelta> deltas = statsBuffer.drain();
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try {
+            jdbcTemplate.batchUpdate("UPDATE users SET xp = COALESCE(xp, 0) + ?, " +
+                            "reputation = COALESCE(reputation, 0) + ?, " +
+                            "completed_issues = COALESCE(completed_issues, 0) + ?, " +
+                            "updated_at = ? WHERE id = ?",
+                    deltas.stream()
+                            .map(delta -> new Object[]{delta.xp(), delta.reputation(), delta.completed(), now, delta.userId()})
+                            .toList());
+        } catch (RuntimeException e) {
+            // Put the deltas back so the next flush retries them instead of dropping XP
+            statsBuffer.restore(deltas);
+            log.error("Failed to flush buffered stats for {} users", deltas.size(), e);
+            return;
+        }
+
+        deltas.forEach(delta -> principalCache.invalidate(delta.userId()));
+        log.debug("Flushed buffered stats for {} users", deltas.size());
     }
 
     public UserDto convertToDto(User user) {
@@ -0,0 +1,60 @@
+package com.devvault.devvault_backend.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Coalesces bursts of completion stats per user in striped {@link LongAdder}s until the next
+ * flush, so a busy event costs one batched UPDATE per user instead of one per completion.
+ * Entries are kept after draining: removing them would race with concurrent adds, and the map is
+ * bounded by the number of users who completed an issue since startup.
+ */
+class UserStatsBuffer {
+
+    private final ConcurrentHashMap<Long, PendingStats> pending = new ConcurrentHashMap<>();
+
+    void record(Long userId, long xp, long reputation) {
+        pending.computeIfAbsent(userId, id -> new PendingStats()).add(xp, reputation, 1);
+    }
+
+    List<UserStatsDelta> drain() {
+        List<UserStatsDelta> deltas = new ArrayList<>();
+        pending.forEach((userId, stats) -> {
+            UserStatsDelta delta = new UserStatsDelta(userId,
+                    stats.xp.sumThenReset(),
+                    stats.reputation.sumThenReset(),
+                    stats.completed.sumThenReset());
+            if (!delta.isEmpty()) {
+                deltas.add(delta);
+            }
+        });
+        return deltas;
+    }
+
+    void restore(List<UserStatsDelta> deltas) {
+        for (UserStatsDelta delta : deltas) {
+            pending.computeIfAbsent(delta.userId(), id -> new PendingStats())
+                    .add(delta.xp(), delta.reputation(), delta.completed());
+        }
+    }
+
+    record UserStatsDelta(Long userId, long xp, long reputation, long completed) {
+        boolean isEmpty() {
+            return xp == 0 && reputation == 0 && completed == 0;
+        }
+    }
+
+    private static final class PendingStats {
+        private final LongAdder xp = new LongAdder();
+        private final LongAdder reputation = new LongAdder();
+        private final LongAdder completed = new LongAdder();
+
+        void add(long xpDelta, long reputationDelta, long completedDelta) {
+            xp.add(xpDelta);
+            reputation.add(reputationDelta);
+            completed.add(completedDelta);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.devvault.devvault_backend.service;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published when a user earns XP by completing an issue.
+ */
+public record UserStatsChangedEvent(Long userId, int xpGained, LocalDateTime occurredAt) {
+}
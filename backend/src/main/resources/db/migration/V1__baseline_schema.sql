@@ -0,0 +1,61 @@
+-- Schema previously produced by Hibernate's ddl-auto=update. Every statement is idempotent so
+-- existing databases can be baselined without being recreated.
+
+CREATE TABLE IF NOT EXISTS users (
+    id               BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    email            VARCHAR(255) NOT NULL UNIQUE,
+    name             VARCHAR(255) NOT NULL,
+    password         VARCHAR(255) NOT NULL,
+    role             VARCHAR(255) NOT NULL CHECK (role IN ('DEVELOPER', 'MAINTAINER')),
+    xp               INTEGER,
+    reputation       INTEGER,
+    github_username  VARCHAR(255),
+    avatar           VARCHAR(255),
+    claimed_issues   INTEGER,
+    completed_issues INTEGER,
+    created_at       TIMESTAMP(6),
+    updated_at       TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS issues (
+    id                 BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    github_id          VARCHAR(255) NOT NULL,
+    title              VARCHAR(255) NOT NULL,
+    description        TEXT,
+    repository         VARCHAR(255) NOT NULL,
+    owner              VARCHAR(255) NOT NULL,
+    url                VARCHAR(255) NOT NULL,
+    difficulty         VARCHAR(255) NOT NULL CHECK (difficulty IN ('EASY', 'MEDIUM', 'HARD')),
+    reward             INTEGER,
+    status             VARCHAR(255) CHECK (status IN ('OPEN', 'CLAIMED', 'IN_PROGRESS', 'COMPLETED', 'CLOSED')),
+    claimed_by_user_id BIGINT REFERENCES users (id),
+    claimed_at         TIMESTAMP(6),
+    completed_at       TIMESTAMP(6),
+    created_at         TIMESTAMP(6) NOT NULL,
+    updated_at         TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS issue_labels (
+    issue_id BIGINT NOT NULL REFERENCES issues (id),
+    label    VARCHAR(255)
+);
+
+CREATE TABLE IF NOT EXISTS repository_sync_cursors (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    owner           VARCHAR(255) NOT NULL,
+    repository      VARCHAR(255) NOT NULL,
+    etag            VARCHAR(255),
+    last_updated_at TIMESTAMP(6),
+    last_synced_at  TIMESTAMP(6),
+    UNIQUE (owner, repository)
+);
+
+-- Full-text search column, generated so every write from the sync pipeline keeps it current
+ALTER TABLE issues ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('english', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('english', coalesce(repository, '')), 'B') ||
+        setweight(to_tsvector('english', coalesce(description, '')), 'C')
+    ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_issues_search_vector ON issues USING GIN (search_vector);
@@ -0,0 +1,19 @@
+-- Sync upserts use ON CONFLICT (github_id) and look rows up by it
+CREATE UNIQUE INDEX IF NOT EXISTS uk_issues_github_id ON issues (github_id);
+
+-- Available listing: only open, unclaimed rows, already in listing order
+CREATE INDEX IF NOT EXISTS idx_issues_open_unclaimed ON issues (created_at DESC, id DESC)
+    WHERE status = 'OPEN' AND claimed_by_user_id IS NULL;
+
+-- My issues, and claim state checks for one claimer
+CREATE INDEX IF NOT EXISTS idx_issues_claimed_by_status ON issues (claimed_by_user_id, status);
+
+-- Keyset pagination and the NDJSON stream walk (created_at, id) descending
+CREATE INDEX IF NOT EXISTS idx_issues_created_at_id ON issues (created_at DESC, id DESC);
+
+-- Status and difficulty filters
+CREATE INDEX IF NOT EXISTS idx_issues_status_difficulty ON issues (status, difficulty);
+
+-- Label batch lookups per issue, and case-insensitive label filters
+CREATE INDEX IF NOT EXISTS idx_issue_labels_issue_id ON issue_labels (issue_id);
+CREATE INDEX IF NOT EXISTS idx_issue_labels_label ON issue_labels (lower(label));
@@ -0,0 +1,26 @@
+-- Repositories the sync pipeline pulls issues from, replacing the list hardcoded in GitHubService
+CREATE TABLE IF NOT EXISTS tracked_repositories (
+    id                    BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    owner                 VARCHAR(100) NOT NULL,
+    repository            VARCHAR(100) NOT NULL,
+    enabled               BOOLEAN      NOT NULL DEFAULT TRUE,
+    priority              INTEGER      NOT NULL DEFAULT 0,
+    sync_interval_minutes INTEGER      NOT NULL DEFAULT 60 CHECK (sync_interval_minutes > 0),
+    last_synced_at        TIMESTAMP(6),
+    created_at            TIMESTAMP(6) NOT NULL DEFAULT now(),
+    updated_at            TIMESTAMP(6) NOT NULL DEFAULT now(),
+    UNIQUE (owner, repository)
+);
+
+-- Serves the due-repository scan: enabled rows, stalest first
+CREATE INDEX IF NOT EXISTS idx_tracked_repositories_due
+    ON tracked_repositories (enabled, last_synced_at NULLS FIRST);
+
+INSERT INTO tracked_repositories (owner, repository)
+VALUES ('facebook', 'react'),
+       ('microsoft', 'vscode'),
+       ('nodejs', 'node'),
+       ('angular', 'angular'),
+       ('vuejs', 'vue'),
+       ('spring-projects', 'spring-boot')
+ON CONFLICT (owner, repository) DO NOTHING;
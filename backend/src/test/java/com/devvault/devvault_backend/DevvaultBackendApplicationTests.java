@@ -2,8 +2,10 @@ package com.devvault.devvault_backend;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
 
 @SpringBootTest
+@Import(TestcontainersConfiguration.class)
 class DevvaultBackendApplicationTests {
 
 	@Test
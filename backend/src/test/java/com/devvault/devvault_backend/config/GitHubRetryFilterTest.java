@@ -0,0 +1,95 @@
+package com.devvault.devvault_backend.config;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.stubbing.Scenario;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.time.Duration;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GitHubRetryFilterTest {
+
+	private static final WireMockServer github = new WireMockServer(options().dynamicPort());
+
+	static {
+		github.start();
+	}
+
+	@AfterAll
+	static void stopGitHub() {
+		github.stop();
+	}
+
+	private WebClient webClient;
+
+	@BeforeEach
+	void setUp() {
+		github.resetAll();
+		GitHubRetryFilter filter = new GitHubRetryFilter();
+		ReflectionTestUtils.setField(filter, "maxAttempts", 2);
+		ReflectionTestUtils.setField(filter, "minBackoff", Duration.ofMillis(10));
+		ReflectionTestUtils.setField(filter, "maxBackoff", Duration.ofSeconds(1));
+		ReflectionTestUtils.setField(filter, "jitter", 0.5);
+		webClient = WebClient.builder().baseUrl(github.baseUrl()).filter(filter).build();
+	}
+
+	@Test
+	void retriesServerErrorsUntilGitHubRecovers() {
+		github.stubFor(get(urlPathEqualTo("/issues")).inScenario("flaky")
+				.whenScenarioStateIs(Scenario.STARTED)
+				.willReturn(aResponse().withStatus(502))
+				.willSetStateTo("recovered"));
+		github.stubFor(get(urlPathEqualTo("/issues")).inScenario("flaky")
+				.whenScenarioStateIs("recovered")
+				.willReturn(aResponse().withStatus(200).withBody("[]")));
+
+		String body = webClient.get().uri("/issues").retrieve().bodyToMono(String.class).block();
+
+		assertThat(body).isEqualTo("[]");
+		github.verify(2, getRequestedFor(urlPathEqualTo("/issues")));
+	}
+
+	@Test
+	void givesUpWithTheLastErrorOnceAttemptsRunOut() {
+		github.stubFor(get(urlPathEqualTo("/issues")).willReturn(aResponse().withStatus(503)));
+
+		assertThatThrownBy(() -> webClient.get().uri("/issues").retrieve().bodyToMono(String.class).block())
+				.isInstanceOf(WebClientResponseException.ServiceUnavailable.class);
+		github.verify(3, getRequestedFor(urlPathEqualTo("/issues")));
+	}
+
+	@Test
+	void doesNotRetryForbiddenWithoutRateLimitHeaders() {
+		github.stubFor(get(urlPathEqualTo("/issues")).willReturn(aResponse().withStatus(403)));
+
+		assertThatThrownBy(() -> webClient.get().uri("/issues").retrieve().bodyToMono(String.class).block())
+				.isInstanceOf(WebClientResponseException.Forbidden.class);
+		github.verify(1, getRequestedFor(urlPathEqualTo("/issues")));
+	}
+
+	@Test
+	void retriesSecondaryRateLimitAfterRetryAfter() {
+		github.stubFor(get(urlPathEqualTo("/issues")).inScenario("limited")
+				.whenScenarioStateIs(Scenario.STARTED)
+				.willReturn(aResponse().withStatus(403).withHeader("Retry-After", "0"))
+				.willSetStateTo("open"));
+		github.stubFor(get(urlPathEqualTo("/issues")).inScenario("limited")
+				.whenScenarioStateIs("open")
+				.willReturn(aResponse().withStatus(200).withBody("[]")));
+
+		assertThat(webClient.get().uri("/issues").retrieve().bodyToMono(String.class).block()).isEqualTo("[]");
+		github.verify(2, getRequestedFor(urlPathEqualTo("/issues")));
+	}
+}
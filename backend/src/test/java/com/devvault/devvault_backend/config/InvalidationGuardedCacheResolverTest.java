@@ -0,0 +1,65 @@
+package com.devvault.devvault_backend.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives the guarded cache the way {@code @Cacheable} does: a miss, the load, then a put.
+ */
+class InvalidationGuardedCacheResolverTest {
+
+	private Cache cache;
+
+	@BeforeEach
+	void setUp() {
+		cache = new InvalidationGuardedCacheResolver(new ConcurrentMapCacheManager(CacheConfig.ALL_ISSUES))
+				.getCache(CacheConfig.ALL_ISSUES);
+	}
+
+	@Test
+	void cachesALoadThatNothingInvalidated() {
+		assertThat(cache.get("key")).isNull();
+		cache.put("key", List.of("fresh"));
+
+		assertThat(cache.get("key").get()).isEqualTo(List.of("fresh"));
+	}
+
+	@Test
+	void dropsALoadThatStartedBeforeAClear() {
+		assertThat(cache.get("key")).isNull();
+		cache.clear();
+		cache.put("key", List.of("stale"));
+
+		assertThat(cache.get("key")).isNull();
+		cache.put("key", List.of("fresh"));
+		assertThat(cache.get("key").get()).isEqualTo(List.of("fresh"));
+	}
+
+	@Test
+	void dropsALoadThatStartedBeforeAnEviction() {
+		assertThat(cache.get(42L)).isNull();
+		cache.evict(42L);
+		cache.put(42L, List.of("stale"));
+
+		assertThat(cache.get(42L)).isNull();
+	}
+
+	@Test
+	void invalidationSeenThroughAnyResolvedInstance() {
+		InvalidationGuardedCacheResolver resolver =
+				new InvalidationGuardedCacheResolver(new ConcurrentMapCacheManager(CacheConfig.ALL_ISSUES));
+		Cache loading = resolver.getCache(CacheConfig.ALL_ISSUES);
+
+		assertThat(loading.get("key")).isNull();
+		resolver.getCache(CacheConfig.ALL_ISSUES).clear();
+		loading.put("key", List.of("stale"));
+
+		assertThat(loading.get("key")).isNull();
+	}
+}
@@ -0,0 +1,73 @@
+package com.devvault.devvault_backend.repository;
+
+import com.devvault.devvault_backend.TestcontainersConfiguration;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Guards the indexes from the Flyway migrations against query changes that stop using them.
+ * Sequential scans are disabled so the planner's choice does not depend on table size.
+ */
+@SpringBootTest
+@Import(TestcontainersConfiguration.class)
+class IssueIndexPlanTest {
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Test
+	void githubIdLookupUsesUniqueIndex() {
+		assertThat(plan("SELECT id FROM issues WHERE github_id = '42'"))
+				.contains("uk_issues_github_id");
+	}
+
+	@Test
+	void availableListingUsesPartialIndex() {
+		assertThat(plan("SELECT id, title FROM issues WHERE status = 'OPEN' AND claimed_by_user_id IS NULL " +
+				"ORDER BY created_at DESC, id DESC"))
+				.contains("idx_issues_open_unclaimed");
+	}
+
+	@Test
+	void claimerLookupUsesCompositeIndex() {
+		assertThat(plan("SELECT id FROM issues WHERE claimed_by_user_id = 1"))
+				.contains("idx_issues_claimed_by_status");
+	}
+
+	@Test
+	void keysetPageUsesCreatedAtIndex() {
+		assertThat(plan("SELECT id FROM issues WHERE (created_at, id) < (now(), 100) " +
+				"ORDER BY created_at DESC, id DESC LIMIT 20"))
+				.contains("idx_issues_created_at_id");
+	}
+
+	@Test
+	void labelLookupsUseLabelIndexes() {
+		assertThat(plan("SELECT issue_id, label FROM issue_labels WHERE issue_id IN (1, 2, 3)"))
+				.contains("idx_issue_labels_issue_id");
+		assertThat(plan("SELECT issue_id FROM issue_labels WHERE lower(label) = lower('bug')"))
+				.contains("idx_issue_labels_label");
+	}
+
+	@Test
+	void fullTextSearchUsesGinIndex() {
+		assertThat(plan("SELECT id FROM issues WHERE search_vector @@ websearch_to_tsquery('english', 'memory leak')"))
+				.contains("idx_issues_search_vector");
+	}
+
+	private String plan(String sql) {
+		return transactionTemplate.execute(status -> {
+			jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+			return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+		});
+	}
+}
@@ -0,0 +1,82 @@
+package com.devvault.devvault_backend.security;
+
+import com.devvault.devvault_backend.exception.TooManyLoginAttemptsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LoginThrottleTest {
+
+	private static final String ADDRESS = "203.0.113.7";
+
+	private final AtomicLong clock = new AtomicLong();
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private LoginThrottle throttle;
+
+	@BeforeEach
+	void setUp() {
+		throttle = new LoginThrottle(
+				new LoginThrottle.Limit(10, Duration.ofSeconds(10)),
+				new LoginThrottle.Limit(3, Duration.ofMinutes(1)),
+				1_000, meterRegistry, clock::get);
+	}
+
+	@Test
+	void blocksAccountOnceItsFailuresAreSpent() {
+		for (int i = 0; i < 3; i++) {
+			throttle.checkAllowed(ADDRESS, "alice@devvault.dev");
+			throttle.recordFailure(ADDRESS, "alice@devvault.dev");
+		}
+
+		assertThatThrownBy(() -> throttle.checkAllowed("198.51.100.1", "Alice@DevVault.dev"))
+				.isInstanceOf(TooManyLoginAttemptsException.class)
+				.satisfies(e -> assertThat(((TooManyLoginAttemptsException) e).getRetryAfter())
+						.isEqualTo(Duration.ofMinutes(1)));
+		assertThatCode(() -> throttle.checkAllowed(ADDRESS, "bob@devvault.dev")).doesNotThrowAnyException();
+		assertThat(meterRegistry.counter("devvault.auth.throttled", "scope", "account").count()).isEqualTo(1);
+	}
+
+	@Test
+	void refillsOneTokenPerPeriod() {
+		for (int i = 0; i < 3; i++) {
+			throttle.recordFailure(ADDRESS, "alice@devvault.dev");
+		}
+		clock.addAndGet(Duration.ofSeconds(30).toNanos());
+
+		assertThatThrownBy(() -> throttle.checkAllowed(ADDRESS, "alice@devvault.dev"))
+				.isInstanceOf(TooManyLoginAttemptsException.class)
+				.satisfies(e -> assertThat(((TooManyLoginAttemptsException) e).getRetryAfter())
+						.isEqualTo(Duration.ofSeconds(30)));
+
+		clock.addAndGet(Duration.ofSeconds(30).toNanos());
+		assertThatCode(() -> throttle.checkAllowed(ADDRESS, "alice@devvault.dev")).doesNotThrowAnyException();
+	}
+
+	@Test
+	void blocksAddressSprayingManyAccounts() {
+		for (int i = 0; i < 10; i++) {
+			throttle.recordFailure(ADDRESS, "user" + i + "@devvault.dev");
+		}
+
+		assertThatThrownBy(() -> throttle.checkAllowed(ADDRESS, "fresh@devvault.dev"))
+				.isInstanceOf(TooManyLoginAttemptsException.class);
+		assertThatCode(() -> throttle.checkAllowed("198.51.100.1", "fresh@devvault.dev")).doesNotThrowAnyException();
+	}
+
+	@Test
+	void successfulLoginResetsTheAccount() {
+		for (int i = 0; i < 3; i++) {
+			throttle.recordFailure(ADDRESS, "alice@devvault.dev");
+		}
+		throttle.recordSuccess("alice@devvault.dev");
+
+		assertThatCode(() -> throttle.checkAllowed(ADDRESS, "alice@devvault.dev")).doesNotThrowAnyException();
+	}
+}
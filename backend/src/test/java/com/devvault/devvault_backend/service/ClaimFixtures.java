@@ -0,0 +1,47 @@
+package com.devvault.devvault_backend.service;
+
+import com.devvault.devvault_backend.model.Issue;
+import com.devvault.devvault_backend.model.Role;
+import com.devvault.devvault_backend.model.User;
+import com.devvault.devvault_backend.repository.IssueRepository;
+import com.devvault.devvault_backend.repository.UserRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One open issue and a crowd of developers to fight over it, shared by the claim storm tests.
+ * {@code name} keeps each test's rows apart, as they share the database.
+ */
+final class ClaimFixtures {
+
+	private ClaimFixtures() {
+	}
+
+	static Issue saveOpenIssue(IssueRepository issueRepository, String name, String description) {
+		return issueRepository.save(Issue.builder()
+				.githubId(name)
+				.title("Claim target " + name)
+				.description(description)
+				.repository(name)
+				.owner("devvault")
+				.url("https://github.com/devvault/" + name + "/issues/1")
+				.difficulty(Issue.Difficulty.EASY)
+				.status(Issue.IssueStatus.OPEN)
+				.labels(List.of("good first issue"))
+				.build());
+	}
+
+	static List<User> saveClaimants(UserRepository userRepository, String name, int count) {
+		List<User> claimants = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			claimants.add(User.builder()
+					.name(name + " claimant " + i)
+					.email(name + "-claimant-" + i + "@example.com")
+					.password("not-used")
+					.role(Role.DEVELOPER)
+					.build());
+		}
+		return userRepository.saveAll(claimants);
+	}
+}
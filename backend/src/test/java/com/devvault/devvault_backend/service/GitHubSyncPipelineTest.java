@@ -0,0 +1,150 @@
+package com.devvault.devvault_backend.service;
+
+import com.devvault.devvault_backend.TestcontainersConfiguration;
+import com.devvault.devvault_backend.repository.IssueRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.MappingBuilder;
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.absent;
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the GitHub sync pipeline against a WireMock stand-in for api.github.com, so it can be
+ * exercised and timed offline. Each page answers after a fixed delay to mimic network latency.
+ */
+@SpringBootTest
+@Import(TestcontainersConfiguration.class)
+class GitHubSyncPipelineTest {
+
+	private static final List<String> REPOSITORIES = List.of(
+			"facebook/react",
+			"microsoft/vscode",
+			"nodejs/node",
+			"angular/angular",
+			"vuejs/vue",
+			"spring-projects/spring-boot"
+	);
+	private static final int PAGES_PER_REPOSITORY = 3;
+	private static final int ISSUES_PER_PAGE = 100;
+	private static final int PAGE_LATENCY_MS = 50;
+
+	private static final WireMockServer github = new WireMockServer(options().dynamicPort());
+
+	static {
+		github.start();
+	}
+
+	@DynamicPropertySource
+	static void githubProperties(DynamicPropertyRegistry registry) {
+		registry.add("github.api.base-url", github::baseUrl);
+	}
+
+	@AfterAll
+	static void stopGitHub() {
+		github.stop();
+	}
+
+	@Autowired
+	private GitHubService gitHubService;
+
+	@Autowired
+	private IssueRepository issueRepository;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Test
+	void syncFollowsEveryPageAndStoresEveryIssue() throws Exception {
+		stubRepositories();
+		long issuesBefore = issueRepository.count();
+
+		gitHubService.syncIssuesFromGitHub();
+
+		long synced = issueRepository.count() - issuesBefore;
+
+		assertThat(synced).isEqualTo((long) REPOSITORIES.size() * PAGES_PER_REPOSITORY * ISSUES_PER_PAGE);
+
+		// Every tracked repository was just attempted, so none is due again within its interval
+		assertThat(gitHubService.syncIssuesFromGitHub().processed()).isZero();
+		for (String repository : REPOSITORIES) {
+			github.verify(1, getRequestedFor(urlPathEqualTo(issuesPath(repository)))
+					.withQueryParam("page", absent()));
+			for (int page = 2; page <= PAGES_PER_REPOSITORY; page++) {
+				github.verify(1, getRequestedFor(urlPathEqualTo(issuesPath(repository)))
+						.withQueryParam("page", equalTo(String.valueOf(page))));
+			}
+		}
+	}
+
+	private void stubRepositories() throws Exception {
+		github.resetAll();
+		long reset = Instant.now().plusSeconds(3600).getEpochSecond();
+		int remaining = 5000;
+
+		for (int repoIndex = 0; repoIndex < REPOSITORIES.size(); repoIndex++) {
+			String repository = REPOSITORIES.get(repoIndex);
+			for (int page = 1; page <= PAGES_PER_REPOSITORY; page++) {
+				MappingBuilder request = get(urlPathEqualTo(issuesPath(repository)))
+						.withQueryParam("page", page == 1 ? absent() : equalTo(String.valueOf(page)));
+
+				ResponseDefinitionBuilder response = aResponse()
+						.withStatus(200)
+						.withFixedDelay(PAGE_LATENCY_MS)
+						.withHeader("Content-Type", "application/json")
+						.withHeader("X-RateLimit-Remaining", String.valueOf(--remaining))
+						.withHeader("X-RateLimit-Reset", String.valueOf(reset))
+						.withBody(objectMapper.writeValueAsString(issuePage(repository, repoIndex, page)));
+				if (page < PAGES_PER_REPOSITORY) {
+					response.withHeader("Link", "<" + github.baseUrl() + issuesPath(repository)
+							+ "?state=open&per_page=100&page=" + (page + 1) + ">; rel=\"next\"");
+				}
+
+				github.stubFor(request.willReturn(response));
+			}
+		}
+	}
+
+	private List<Map<String, Object>> issuePage(String repository, int repoIndex, int page) {
+		List<Map<String, Object>> issues = new ArrayList<>();
+		for (int i = 0; i < ISSUES_PER_PAGE; i++) {
+			long id = 9_000_000L + repoIndex * 100_000L + page * 1_000L + i;
+			issues.add(Map.of(
+					"id", id,
+					"title", "Synthetic issue " + id,
+					"body", "Synthetic body for issue " + id + " in " + repository,
+					"state", "open",
+					"html_url", "https://github.com/" + repository + "/issues/" + id,
+					"created_at", "2024-05-01T10:00:00Z",
+					"updated_at", "2024-05-02T10:00:00Z",
+					"labels", List.of(Map.of("name", i % 5 == 0 ? "good first issue" : "bug", "color", "d73a4a")),
+					"user", Map.of("login", "octocat")
+			));
+		}
+		return issues;
+	}
+
+	private static String issuesPath(String repository) {
+		return "/repos/" + repository + "/issues";
+	}
+
+}
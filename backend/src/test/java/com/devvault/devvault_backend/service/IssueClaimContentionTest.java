@@ -0,0 +1,96 @@
+package com.devvault.devvault_backend.service;
+
+import com.devvault.devvault_backend.TestcontainersConfiguration;
+import com.devvault.devvault_backend.exception.IssueAlreadyClaimedException;
+import com.devvault.devvault_backend.model.Issue;
+import com.devvault.devvault_backend.model.User;
+import com.devvault.devvault_backend.repository.IssueRepository;
+import com.devvault.devvault_backend.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Import(TestcontainersConfiguration.class)
+class IssueClaimContentionTest {
+
+	private static final int CLAIMANTS = 300;
+	private static final int THREADS = 64;
+
+	@Autowired
+	private IssueService issueService;
+
+	@Autowired
+	private IssueRepository issueRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Test
+	void exactlyOneOfManySimultaneousClaimsWins() throws Exception {
+		Issue issue = ClaimFixtures.saveOpenIssue(issueRepository, "claim-contention", "Everyone wants this one");
+		List<User> claimants = ClaimFixtures.saveClaimants(userRepository, "claim-contention", CLAIMANTS);
+
+		AtomicInteger wins = new AtomicInteger();
+		AtomicInteger conflicts = new AtomicInteger();
+		Map<Long, Throwable> unexpected = new ConcurrentHashMap<>();
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		try {
+			List<Future<?>> attempts = new ArrayList<>();
+			for (User claimant : claimants) {
+				attempts.add(executor.submit(() -> {
+					start.await();
+					try {
+						issueService.claimIssue(issue.getId(), claimant.getId());
+						wins.incrementAndGet();
+					} catch (IssueAlreadyClaimedException e) {
+						conflicts.incrementAndGet();
+					} catch (Exception e) {
+						unexpected.put(claimant.getId(), e);
+					}
+					return null;
+				}));
+			}
+
+			start.countDown();
+			for (Future<?> attempt : attempts) {
+				attempt.get(60, TimeUnit.SECONDS);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertThat(unexpected).isEmpty();
+		assertThat(wins.get()).isEqualTo(1);
+		assertThat(conflicts.get()).isEqualTo(CLAIMANTS - 1);
+
+		Issue claimed = issueRepository.findById(issue.getId()).orElseThrow();
+		assertThat(claimed.getStatus()).isEqualTo(Issue.IssueStatus.CLAIMED);
+		assertThat(claimed.getClaimedById()).isNotNull();
+
+		List<User> reloaded = userRepository.findAllById(claimants.stream().map(User::getId).toList());
+		assertThat(reloaded)
+				.filteredOn(user -> user.getClaimedIssues() > 0)
+				.singleElement()
+				.satisfies(winner -> {
+					assertThat(winner.getId()).isEqualTo(claimed.getClaimedById());
+					assertThat(winner.getClaimedIssues()).isEqualTo(1);
+				});
+	}
+
+}
@@ -0,0 +1,74 @@
+package com.devvault.devvault_backend.service;
+
+import com.devvault.devvault_backend.TestcontainersConfiguration;
+import com.devvault.devvault_backend.dto.IssueSummaryDto;
+import com.devvault.devvault_backend.model.Issue;
+import com.devvault.devvault_backend.repository.IssueRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Import(TestcontainersConfiguration.class)
+class IssueFacetIndexRebuildTest {
+
+	private static final String REPOSITORY = "facet-rebuild";
+
+	@Autowired
+	private IssueService issueService;
+
+	@Autowired
+	private IssueRepository issueRepository;
+
+	@Autowired
+	private ApplicationEventPublisher eventPublisher;
+
+	@Test
+	void rebuildsAfterIssuesChangedEventAndOrdersByCreationTime() {
+		// Saved in id order, created in the opposite order
+		Issue older = saveIssue("older", LocalDateTime.of(2024, 3, 2, 9, 0));
+		Issue oldest = saveIssue("oldest", LocalDateTime.of(2024, 3, 1, 9, 0));
+		eventPublisher.publishEvent(IssuesChangedEvent.forAllUsers());
+
+		assertThat(filteredIds()).containsExactly(older.getId().toString(), oldest.getId().toString());
+
+		Issue newest = saveIssue("newest", LocalDateTime.of(2024, 3, 3, 9, 0));
+		assertThat(filteredIds()).hasSize(2);
+
+		eventPublisher.publishEvent(IssuesChangedEvent.forAllUsers());
+		assertThat(filteredIds()).containsExactly(
+				newest.getId().toString(), older.getId().toString(), oldest.getId().toString());
+		assertThat(issueService.getFacets(filter()).getTotal()).isEqualTo(3);
+	}
+
+	private List<String> filteredIds() {
+		return issueService.filterIssues(filter(), 0, 10).getItems().stream()
+				.map(IssueSummaryDto::getId)
+				.toList();
+	}
+
+	private static IssueFilter filter() {
+		return new IssueFilter(null, null, null, REPOSITORY, null, null);
+	}
+
+	private Issue saveIssue(String name, LocalDateTime createdAt) {
+		return issueRepository.save(Issue.builder()
+				.githubId("facet-rebuild-" + name)
+				.title("Facet rebuild " + name)
+				.description("Body")
+				.repository(REPOSITORY)
+				.owner("devvault")
+				.url("https://github.com/devvault/facet-rebuild/issues/" + name)
+				.difficulty(Issue.Difficulty.EASY)
+				.labels(List.of("bug"))
+				.createdAt(createdAt)
+				.build());
+	}
+}
@@ -0,0 +1,236 @@
+package com.devvault.devvault_backend.service;
+
+import com.devvault.devvault_backend.dto.IssueFacetsDto;
+import com.devvault.devvault_backend.model.Issue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Exercises the bitset postings against a small hand-built issue set. Rows are listed in
+ * creation order, which deliberately differs from id order.
+ */
+class IssueFacetIndexTest {
+
+	private final List<IssueRow> issues = new ArrayList<>();
+	private IssueFacetIndex index;
+
+	@BeforeEach
+	void setUp() throws SQLException {
+		JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+		doAnswer(invocation -> {
+			RowCallbackHandler handler = invocation.getArgument(1);
+			for (IssueRow issue : issues) {
+				handler.processRow(issue.row());
+			}
+			return null;
+		}).when(jdbcTemplate).query(startsWith("SELECT id"), any(RowCallbackHandler.class));
+		doAnswer(invocation -> {
+			RowCallbackHandler handler = invocation.getArgument(1);
+			for (IssueRow issue : issues) {
+				for (ResultSet label : issue.labelRows()) {
+					handler.processRow(label);
+				}
+			}
+			return null;
+		}).when(jdbcTemplate).query(startsWith("SELECT issue_id"), any(RowCallbackHandler.class));
+		index = new IssueFacetIndex(jdbcTemplate);
+
+		issues.add(issue(5, "react", Issue.Difficulty.EASY, Issue.IssueStatus.OPEN, List.of("bug", "good first issue")));
+		issues.add(issue(2, "react", Issue.Difficulty.MEDIUM, Issue.IssueStatus.OPEN, List.of("bug")));
+		issues.add(issue(9, "vue", Issue.Difficulty.HARD, Issue.IssueStatus.CLAIMED, List.of("Enhancement")));
+		issues.add(issue(1, "vue", Issue.Difficulty.EASY, Issue.IssueStatus.OPEN, List.of("docs")));
+		issues.add(issue(7, "react", Issue.Difficulty.EASY, Issue.IssueStatus.COMPLETED, List.of("bug", "docs")));
+		issues.add(issue(3, "node", Issue.Difficulty.MEDIUM, Issue.IssueStatus.OPEN, List.of()));
+	}
+
+	@Test
+	void listsEveryIssueNewestFirstByCreationOrder() {
+		IssueFacetIndex.FilterResult result = index.filter(filter(null, null, null, null), null, 0, 10);
+
+		assertThat(result.issueIds()).containsExactly(3L, 7L, 1L, 9L, 2L, 5L);
+		assertThat(result.total()).isEqualTo(6);
+	}
+
+	@Test
+	void anyLabelsNeedOneMatch() {
+		IssueFacetIndex.FilterResult result = index.filter(filter(List.of("bug", "docs"), null, null, null), null, 0, 10);
+
+		assertThat(result.issueIds()).containsExactly(7L, 1L, 2L, 5L);
+	}
+
+	@Test
+	void allLabelsNeedEveryMatchCaseInsensitively() {
+		IssueFacetIndex.FilterResult result = index.filter(filter(null, List.of("BUG", " Docs "), null, null), null, 0, 10);
+
+		assertThat(result.issueIds()).containsExactly(7L);
+		assertThat(result.total()).isEqualTo(1);
+	}
+
+	@Test
+	void unknownLabelsMatchNothingUnlessAnotherAnyLabelMatches() {
+		assertThat(index.filter(filter(null, List.of("bug", "missing"), null, null), null, 0, 10).total()).isZero();
+		assertThat(index.filter(filter(List.of("missing", "enhancement"), null, null, null), null, 0, 10).issueIds())
+				.containsExactly(9L);
+	}
+
+	@Test
+	void intersectsDifficultyStatusAndRepository() {
+		assertThat(index.filter(filter(null, null, Issue.Difficulty.EASY, Issue.IssueStatus.OPEN), null, 0, 10).issueIds())
+				.containsExactly(1L, 5L);
+
+		IssueFilter reactBugs = new IssueFilter(null, null, null, "react", null, List.of("bug"));
+		assertThat(index.filter(reactBugs, null, 0, 10).issueIds()).containsExactly(7L, 2L, 5L);
+	}
+
+	@Test
+	void restrictsToCandidateIds() {
+		IssueFacetIndex.FilterResult result = index.filter(filter(null, null, null, null), List.of(5L, 9L, 42L), 0, 10);
+
+		assertThat(result.issueIds()).containsExactly(9L, 5L);
+		assertThat(result.total()).isEqualTo(2);
+	}
+
+	@Test
+	void pagesSkipEarlierMatches() {
+		IssueFilter all = filter(null, null, null, null);
+
+		assertThat(index.filter(all, null, 0, 4).issueIds()).containsExactly(3L, 7L, 1L, 9L);
+		assertThat(index.filter(all, null, 1, 4).issueIds()).containsExactly(2L, 5L);
+		assertThat(index.filter(all, null, 2, 4).issueIds()).isEmpty();
+		assertThat(index.filter(all, null, 2, 4).total()).isEqualTo(6);
+	}
+
+	@Test
+	void pagesAcrossBitsetWordBoundaries() throws SQLException {
+		issues.clear();
+		for (long id = 1; id <= 150; id++) {
+			Issue.IssueStatus status = id % 3 == 0 ? Issue.IssueStatus.OPEN : Issue.IssueStatus.CLAIMED;
+			issues.add(issue(id, "bulk", Issue.Difficulty.MEDIUM, status, List.of()));
+		}
+		IssueFilter all = filter(null, null, null, null);
+
+		assertThat(index.filter(all, null, 0, 64).issueIds()).hasSize(64).startsWith(150L).endsWith(87L);
+		assertThat(index.filter(all, null, 1, 64).issueIds()).hasSize(64).startsWith(86L).endsWith(23L);
+		assertThat(index.filter(all, null, 2, 64).issueIds()).hasSize(22).startsWith(22L).endsWith(1L);
+
+		IssueFacetIndex.FilterResult open = index.filter(filter(null, null, null, Issue.IssueStatus.OPEN), null, 1, 20);
+		assertThat(open.total()).isEqualTo(50);
+		assertThat(open.issueIds()).hasSize(20).startsWith(90L).endsWith(33L);
+	}
+
+	@Test
+	void countsFacetsWithinTheFilter() {
+		IssueFacetsDto facets = index.facets(filter(null, null, Issue.Difficulty.EASY, null), null);
+
+		assertThat(facets.getTotal()).isEqualTo(3);
+		assertThat(facets.getLabels()).containsExactly(
+				Map.entry("bug", 2L), Map.entry("docs", 2L), Map.entry("good first issue", 1L));
+		assertThat(facets.getDifficulties()).containsExactly(Map.entry("EASY", 3L));
+		assertThat(facets.getStatuses()).containsExactly(Map.entry("OPEN", 2L), Map.entry("COMPLETED", 1L));
+		assertThat(facets.getRepositories()).containsExactly(Map.entry("react", 2L), Map.entry("vue", 1L));
+	}
+
+	@Test
+	void keepsTheFirstSeenLabelSpelling() {
+		IssueFacetsDto facets = index.facets(filter(null, null, null, null), null);
+
+		assertThat(facets.getLabels()).containsKey("Enhancement").doesNotContainKey("enhancement");
+	}
+
+	@Test
+	void rebuildsOnlyAfterInvalidation() throws SQLException {
+		IssueFilter all = filter(null, null, null, null);
+		assertThat(index.filter(all, null, 0, 10).total()).isEqualTo(6);
+
+		issues.add(issue(11, "node", Issue.Difficulty.HARD, Issue.IssueStatus.OPEN, List.of("bug")));
+		assertThat(index.filter(all, null, 0, 10).total()).isEqualTo(6);
+
+		index.invalidate();
+		IssueFacetIndex.FilterResult rebuilt = index.filter(all, null, 0, 10);
+		assertThat(rebuilt.total()).isEqualTo(7);
+		assertThat(rebuilt.issueIds()).startsWith(11L);
+		assertThat(index.facets(all, null).getLabels()).containsEntry("bug", 4L);
+	}
+
+	@Test
+	void statusUpdatesPatchThePostingsWithoutARebuild() throws SQLException {
+		IssueFilter open = filter(null, null, null, Issue.IssueStatus.OPEN);
+		assertThat(index.filter(open, null, 0, 10).issueIds()).containsExactly(3L, 1L, 2L, 5L);
+
+		// Rows added without invalidating only show up if something rebuilds
+		issues.add(issue(11, "node", Issue.Difficulty.HARD, Issue.IssueStatus.OPEN, List.of()));
+		index.updateStatus(2L, Issue.IssueStatus.CLAIMED);
+		index.updateStatus(9L, Issue.IssueStatus.OPEN);
+
+		assertThat(index.filter(open, null, 0, 10).issueIds()).containsExactly(3L, 1L, 9L, 5L);
+		assertThat(index.facets(filter(null, null, null, null), null).getStatuses()).containsExactly(
+				Map.entry("OPEN", 4L), Map.entry("CLAIMED", 1L), Map.entry("COMPLETED", 1L));
+	}
+
+	@Test
+	void statusUpdateForAnUnindexedIssueRebuilds() throws SQLException {
+		IssueFilter all = filter(null, null, null, null);
+		assertThat(index.filter(all, null, 0, 10).total()).isEqualTo(6);
+
+		issues.add(issue(11, "node", Issue.Difficulty.HARD, Issue.IssueStatus.CLAIMED, List.of()));
+		index.updateStatus(11L, Issue.IssueStatus.CLAIMED);
+
+		assertThat(index.filter(filter(null, null, null, Issue.IssueStatus.CLAIMED), null, 0, 10).issueIds())
+				.containsExactly(11L, 9L);
+	}
+
+	@Test
+	void matchesRepositoriesCaseInsensitively() throws SQLException {
+		issues.add(issue(11, "Svelte", Issue.Difficulty.HARD, Issue.IssueStatus.OPEN, List.of()));
+		issues.add(issue(12, "svelte", Issue.Difficulty.EASY, Issue.IssueStatus.OPEN, List.of()));
+
+		IssueFilter svelte = new IssueFilter(null, null, null, " SVELTE ", null, null);
+		assertThat(index.filter(svelte, null, 0, 10).issueIds()).containsExactly(12L, 11L);
+		assertThat(index.filter(new IssueFilter(null, null, null, "React", null, null), null, 0, 10).total())
+				.isEqualTo(3);
+		assertThat(index.facets(filter(null, null, null, null), null).getRepositories())
+				.containsEntry("Svelte", 2L).doesNotContainKey("svelte");
+	}
+
+	private static IssueFilter filter(List<String> anyLabels, List<String> allLabels,
+									  Issue.Difficulty difficulty, Issue.IssueStatus status) {
+		return new IssueFilter(null, difficulty, status, null, anyLabels, allLabels);
+	}
+
+	// Result sets are stubbed up front: stubbing inside the JdbcTemplate answers would nest Mockito calls
+	private static IssueRow issue(long id, String repository, Issue.Difficulty difficulty, Issue.IssueStatus status,
+								  List<String> labels) throws SQLException {
+		ResultSet row = mock(ResultSet.class);
+		when(row.getLong("id")).thenReturn(id);
+		when(row.getString("repository")).thenReturn(repository);
+		when(row.getString("difficulty")).thenReturn(difficulty.name());
+		when(row.getString("status")).thenReturn(status.name());
+
+		List<ResultSet> labelRows = new ArrayList<>();
+		for (String label : labels) {
+			ResultSet labelRow = mock(ResultSet.class);
+			when(labelRow.getLong("issue_id")).thenReturn(id);
+			when(labelRow.getString("label")).thenReturn(label);
+			labelRows.add(labelRow);
+		}
+		return new IssueRow(row, labelRows);
+	}
+
+	private record IssueRow(ResultSet row, List<ResultSet> labelRows) {
+	}
+}
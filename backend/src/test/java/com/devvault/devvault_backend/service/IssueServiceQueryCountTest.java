@@ -0,0 +1,236 @@
+package com.devvault.devvault_backend.service;
+
+import com.devvault.devvault_backend.TestcontainersConfiguration;
+import com.devvault.devvault_backend.dto.CursorPage;
+import com.devvault.devvault_backend.dto.IssueDto;
+import com.devvault.devvault_backend.dto.IssueSummaryDto;
+import com.devvault.devvault_backend.model.Issue;
+import com.devvault.devvault_backend.model.Role;
+import com.devvault.devvault_backend.model.User;
+import com.devvault.devvault_backend.repository.IssueRepository;
+import com.devvault.devvault_backend.repository.IssueSummaryView;
+import com.devvault.devvault_backend.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(TestcontainersConfiguration.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class IssueServiceQueryCountTest {
+
+	private static final int ISSUE_COUNT = 60;
+
+	@Autowired
+	private IssueService issueService;
+
+	@Autowired
+	private IssueRepository issueRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private CacheManager cacheManager;
+
+	private Statistics statistics;
+
+	private User claimer;
+
+	private User cacheUser;
+
+	private Issue longIssue;
+
+	@BeforeAll
+	void seedIssues() {
+		claimer = userRepository.save(User.builder()
+				.name("Query Count")
+				.email("query-count@example.com")
+				.password("not-used")
+				.role(Role.DEVELOPER)
+				.build());
+		cacheUser = userRepository.save(User.builder()
+				.name("Cache User")
+				.email("query-count-cache@example.com")
+				.password("not-used")
+				.role(Role.DEVELOPER)
+				.build());
+
+		List<Issue> issues = new ArrayList<>();
+		for (int i = 0; i < ISSUE_COUNT; i++) {
+			boolean claimed = i % 2 == 0;
+			issues.add(Issue.builder()
+					.githubId("query-count-" + i)
+					.title("Query count issue " + i)
+					.description("Issue body " + i)
+					.repository("query-count")
+					.owner("devvault")
+					.url("https://github.com/devvault/query-count/issues/" + i)
+					.difficulty(Issue.Difficulty.MEDIUM)
+					.status(claimed ? Issue.IssueStatus.CLAIMED : Issue.IssueStatus.OPEN)
+					.claimedBy(claimed ? claimer : null)
+					.labels(List.of("bug", "label-" + i, "help wanted"))
+					.build());
+		}
+		issueRepository.saveAll(issues);
+
+		longIssue = issueRepository.save(Issue.builder()
+				.githubId("query-count-long")
+				.title("Long body")
+				.description("x".repeat(20_000))
+				.repository("excerpts")
+				.owner("devvault")
+				.url("https://github.com/devvault/excerpts/issues/1")
+				.difficulty(Issue.Difficulty.EASY)
+				.labels(List.of("docs"))
+				.build());
+	}
+
+	@BeforeEach
+	void resetStatistics() {
+		cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+	}
+
+	@Test
+	void allIssuesLoadInTwoStatements() {
+		List<IssueSummaryDto> issues = countStatements(issueService::getAllIssues, 2);
+
+		assertThat(seeded(issues)).hasSize(ISSUE_COUNT)
+				.allSatisfy(issue -> assertThat(issue.getLabels()).hasSize(3));
+	}
+
+	@Test
+	void availableIssuesLoadInTwoStatements() {
+		List<IssueSummaryDto> issues = countStatements(issueService::getAvailableIssues, 2);
+
+		assertThat(issues).hasSizeGreaterThanOrEqualTo(ISSUE_COUNT / 2);
+		assertThat(issues).allSatisfy(issue -> assertThat(issue.getClaimed()).isFalse());
+	}
+
+	@Test
+	void myIssuesLoadInTwoStatementsWithoutLoadingTheUser() {
+		List<IssueSummaryDto> issues = countStatements(() -> issueService.getIssuesByUser(claimer.getId()), 2);
+
+		assertThat(issues).hasSize(ISSUE_COUNT / 2);
+		assertThat(issues).allSatisfy(issue ->
+				assertThat(issue.getClaimedBy()).isEqualTo(claimer.getId().toString()));
+	}
+
+	@Test
+	void filteredListingLoadsInTwoStatements() {
+		List<IssueSummaryDto> issues = countStatements(
+				() -> issueService.searchIssues(null, Issue.Difficulty.MEDIUM, Issue.IssueStatus.CLAIMED), 2);
+
+		assertThat(seeded(issues)).hasSize(ISSUE_COUNT / 2)
+				.allSatisfy(issue -> assertThat(issue.getLabels()).hasSize(3));
+	}
+
+	@Test
+	void searchLoadsInThreeStatements() {
+		List<IssueSummaryDto> issues = countStatements(
+				() -> issueService.searchIssues("query count", null, null), 3);
+
+		assertThat(seeded(issues)).hasSize(ISSUE_COUNT)
+				.allSatisfy(issue -> assertThat(issue.getLabels()).hasSize(3));
+	}
+
+	@Test
+	void searchReturnsEveryMatchPastTheRankedPageSize() {
+		int matches = IssueService.MAX_PAGE_SIZE + 50;
+		List<Issue> issues = new ArrayList<>();
+		for (int i = 0; i < matches; i++) {
+			issues.add(Issue.builder()
+					.githubId("search-paging-" + i)
+					.title("Paging probe " + i)
+					.description("Found on the second ranked page as well")
+					.repository("search-paging")
+					.owner("devvault")
+					.url("https://github.com/devvault/search-paging/issues/" + i)
+					.difficulty(Issue.Difficulty.HARD)
+					.labels(List.of("paging"))
+					.build());
+		}
+		issueRepository.saveAll(issues);
+		statistics.clear();
+
+		// Two ranked pages, then the summaries and their labels
+		List<IssueSummaryDto> found = countStatements(() -> issueService.searchIssues("paging probe", null, null), 4);
+
+		assertThat(found).hasSize(matches)
+				.allSatisfy(issue -> assertThat(issue.getRepository()).isEqualTo("search-paging"));
+		assertThat(found).extracting(IssueSummaryDto::getId).doesNotHaveDuplicates();
+	}
+
+	@Test
+	void listingsCarryAnExcerptAndDetailCarriesTheFullDescription() {
+		IssueSummaryDto summary = issueService.getAllIssues().stream()
+				.filter(issue -> issue.getId().equals(longIssue.getId().toString()))
+				.findFirst()
+				.orElseThrow();
+
+		assertThat(summary.getExcerpt()).hasSize(IssueSummaryView.EXCERPT_LENGTH + 1).endsWith("…");
+		assertThat(summary.getLabels()).containsExactly("docs");
+		assertThat(issueService.getIssue(longIssue.getId()).getDescription()).hasSize(20_000);
+	}
+
+	@Test
+	void issuePageBatchFetchesLabels() {
+		CursorPage<IssueDto> page = countStatements(() -> issueService.getIssuesPage(null, 50), 2);
+
+		assertThat(page.getItems()).hasSize(50);
+		assertThat(page.getItems().stream().filter(issue -> "query-count".equals(issue.getRepository())))
+				.allSatisfy(issue -> assertThat(issue.getLabels()).hasSize(3));
+	}
+
+	@Test
+	void availableIssuesAreCachedUntilAClaimCommits() {
+		countStatements(issueService::getAvailableIssues, 2);
+		statistics.clear();
+		List<IssueSummaryDto> cached = countStatements(issueService::getAvailableIssues, 0);
+
+		String claimedId = seeded(cached).get(0).getId();
+		issueService.claimIssue(Long.valueOf(claimedId), cacheUser.getId());
+		try {
+			statistics.clear();
+			List<IssueSummaryDto> issues = countStatements(issueService::getAvailableIssues, 2);
+
+			assertThat(issues).extracting(IssueSummaryDto::getId).doesNotContain(claimedId);
+		} finally {
+			issueService.unclaimIssue(Long.valueOf(claimedId), cacheUser.getId());
+		}
+	}
+
+	private List<IssueSummaryDto> seeded(List<IssueSummaryDto> issues) {
+		return issues.stream()
+				.filter(issue -> "query-count".equals(issue.getRepository()))
+				.toList();
+	}
+
+	private <T> T countStatements(Supplier<T> listing, long expectedStatements) {
+		T result = listing.get();
+		assertThat(statistics.getPrepareStatementCount())
+				.as("SQL statements issued by the listing")
+				.isEqualTo(expectedStatements);
+		return result;
+	}
+
+}
@@ -0,0 +1,120 @@
+package com.devvault.devvault_backend.service;
+
+import com.devvault.devvault_backend.TestcontainersConfiguration;
+import com.devvault.devvault_backend.dto.GitHubIssueDto;
+import com.devvault.devvault_backend.model.Issue;
+import com.devvault.devvault_backend.model.Role;
+import com.devvault.devvault_backend.model.User;
+import com.devvault.devvault_backend.repository.IssueRepository;
+import com.devvault.devvault_backend.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Import(TestcontainersConfiguration.class)
+class IssueSyncWriterTest {
+
+	private static final AtomicLong NEXT_ID = new AtomicLong(7_000_000L);
+
+	@Autowired
+	private IssueSyncWriter issueSyncWriter;
+
+	@Autowired
+	private IssueRepository issueRepository;
+
+	@Autowired
+	private IssueService issueService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Test
+	void skipsPullRequestsAndIssuesClosedBeforeImport() {
+		GitHubIssueDto pullRequest = githubIssue("open");
+		pullRequest.setPullRequest(new GitHubIssueDto.PullRequest());
+		GitHubIssueDto closed = githubIssue("closed");
+		GitHubIssueDto open = githubIssue("open");
+
+		IssueSyncResult result = issueSyncWriter.writeBatch(List.of(pullRequest, closed, open), "octo", "sync-writer");
+
+		assertThat(result.inserted()).isEqualTo(1);
+		assertThat(issueRepository.findByGithubId(pullRequest.getId().toString())).isEmpty();
+		assertThat(issueRepository.findByGithubId(closed.getId().toString())).isEmpty();
+		assertThat(issueRepository.findByGithubId(open.getId().toString())).isPresent();
+	}
+
+	@Test
+	void retiresIssuesClosedUpstreamAndRestoresReopenedOnes() {
+		GitHubIssueDto issue = githubIssue("open");
+		issueSyncWriter.writeBatch(List.of(issue), "octo", "sync-writer");
+
+		issue.setState("closed");
+		IssueSyncResult closedResult = issueSyncWriter.writeBatch(List.of(issue), "octo", "sync-writer");
+		assertThat(closedResult.updated()).isEqualTo(1);
+		assertThat(statusOf(issue)).isEqualTo(Issue.IssueStatus.CLOSED);
+
+		issue.setState("open");
+		issueSyncWriter.writeBatch(List.of(issue), "octo", "sync-writer");
+		assertThat(statusOf(issue)).isEqualTo(Issue.IssueStatus.OPEN);
+	}
+
+	@Test
+	void leavesClaimedIssuesClosedUpstreamWithTheirClaimer() {
+		GitHubIssueDto issue = githubIssue("open");
+		issueSyncWriter.writeBatch(List.of(issue), "octo", "sync-writer");
+		Issue imported = issueRepository.findByGithubId(issue.getId().toString()).orElseThrow();
+		User claimer = userRepository.save(User.builder()
+				.name("Sync claimer " + issue.getId())
+				.email("sync-claimer-" + issue.getId() + "@example.com")
+				.password("not-used")
+				.role(Role.DEVELOPER)
+				.build());
+		issueService.claimIssue(imported.getId(), claimer.getId());
+
+		issue.setState("closed");
+		IssueSyncResult result = issueSyncWriter.writeBatch(List.of(issue), "octo", "sync-writer");
+
+		assertThat(result.updated()).isZero();
+		Issue reloaded = issueRepository.findById(imported.getId()).orElseThrow();
+		assertThat(reloaded.getStatus()).isEqualTo(Issue.IssueStatus.CLAIMED);
+		assertThat(reloaded.getClaimedById()).isEqualTo(claimer.getId());
+		assertThat(userRepository.findById(claimer.getId()).orElseThrow().getClaimedIssues()).isEqualTo(1);
+	}
+
+	@Test
+	void retiresPullRequestsImportedBeforeTheyWereFiltered() {
+		GitHubIssueDto item = githubIssue("open");
+		issueSyncWriter.writeBatch(List.of(item), "octo", "sync-writer");
+
+		item.setPullRequest(new GitHubIssueDto.PullRequest());
+		issueSyncWriter.writeBatch(List.of(item), "octo", "sync-writer");
+
+		assertThat(statusOf(item)).isEqualTo(Issue.IssueStatus.CLOSED);
+	}
+
+	private Issue.IssueStatus statusOf(GitHubIssueDto githubIssue) {
+		return issueRepository.findByGithubId(githubIssue.getId().toString()).orElseThrow().getStatus();
+	}
+
+	private static GitHubIssueDto githubIssue(String state) {
+		long id = NEXT_ID.incrementAndGet();
+		GitHubIssueDto issue = new GitHubIssueDto();
+		issue.setId(id);
+		issue.setTitle("Sync writer issue " + id);
+		issue.setBody("Body " + id);
+		issue.setState(state);
+		issue.setHtmlUrl("https://github.com/octo/sync-writer/issues/" + id);
+		issue.setCreatedAt(LocalDateTime.of(2024, 5, 1, 10, 0));
+		issue.setUpdatedAt(LocalDateTime.of(2024, 5, 2, 10, 0));
+		issue.setLabels(List.of());
+		return issue;
+	}
+}
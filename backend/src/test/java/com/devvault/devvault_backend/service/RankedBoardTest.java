@@ -0,0 +1,58 @@
+package com.devvault.devvault_backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RankedBoardTest {
+
+	@Test
+	void ranksMatchANaiveSortUnderRandomUpdates() {
+		RankedBoard board = new RankedBoard();
+		Map<Long, Long> expected = new HashMap<>();
+		Random random = new Random(17);
+
+		for (int i = 0; i < 5_000; i++) {
+			long userId = random.nextInt(500);
+			long delta = random.nextInt(600) - 100;
+			board.add(userId, delta);
+			long score = expected.getOrDefault(userId, 0L) + delta;
+			if (score > 0) {
+				expected.put(userId, score);
+			} else {
+				expected.remove(userId);
+			}
+		}
+
+		List<Map.Entry<Long, Long>> sorted = expected.entrySet().stream()
+				.sorted(Map.Entry.<Long, Long>comparingByValue(Comparator.reverseOrder())
+						.thenComparing(Map.Entry.comparingByKey()))
+				.toList();
+
+		assertThat(board.size()).isEqualTo(sorted.size());
+		List<RankedBoard.Standing> standings = board.range(1, sorted.size());
+		for (int i = 0; i < sorted.size(); i++) {
+			assertThat(standings.get(i).userId()).isEqualTo(sorted.get(i).getKey());
+			assertThat(standings.get(i).score()).isEqualTo(sorted.get(i).getValue());
+			assertThat(board.rankOf(sorted.get(i).getKey())).isEqualTo(i + 1);
+		}
+	}
+
+	@Test
+	void usersWithoutScoreAreUnranked() {
+		RankedBoard board = new RankedBoard();
+		board.add(1L, 100);
+		board.add(2L, 100);
+		board.add(1L, -100);
+
+		assertThat(board.rankOf(1L)).isNull();
+		assertThat(board.rankOf(2L)).isEqualTo(1);
+		assertThat(board.range(1, 10)).extracting(RankedBoard.Standing::userId).containsExactly(2L);
+	}
+}
@@ -0,0 +1,29 @@
+package com.devvault.devvault_backend.service;
+
+import com.devvault.devvault_backend.repository.IssueRepository;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchHighlightTest {
+
+	@Test
+	void escapesIssueTextButKeepsHighlights() {
+		String headline = "<img src=x onerror=alert(1)> fix " + IssueRepository.HIGHLIGHT_START + "parser"
+				+ IssueRepository.HIGHLIGHT_STOP + " & \"lexer\"";
+
+		assertThat(IssueService.toHtmlHighlight(headline))
+				.isEqualTo("&lt;img src=x onerror=alert(1)&gt; fix <mark>parser</mark> &amp; &quot;lexer&quot;");
+	}
+
+	@Test
+	void leavesNonAsciiTextReadable() {
+		assertThat(IssueService.toHtmlHighlight("café " + IssueRepository.HIGHLIGHT_START + "naïve"
+				+ IssueRepository.HIGHLIGHT_STOP)).isEqualTo("café <mark>naïve</mark>");
+	}
+
+	@Test
+	void passesMissingHeadlinesThrough() {
+		assertThat(IssueService.toHtmlHighlight(null)).isNull();
+	}
+}
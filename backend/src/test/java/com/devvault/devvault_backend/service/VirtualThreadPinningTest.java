@@ -0,0 +1,92 @@
+package com.devvault.devvault_backend.service;
+
+import com.devvault.devvault_backend.TestcontainersConfiguration;
+import com.devvault.devvault_backend.exception.IssueAlreadyClaimedException;
+import com.devvault.devvault_backend.model.Issue;
+import com.devvault.devvault_backend.model.User;
+import com.devvault.devvault_backend.repository.IssueRepository;
+import com.devvault.devvault_backend.repository.UserRepository;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs a claim storm and cold principal lookups on virtual threads while JFR watches for
+ * jdk.VirtualThreadPinned events, and fails if any pinned stack passes through application code.
+ */
+@SpringBootTest(properties = "spring.threads.virtual.enabled=true")
+@Import(TestcontainersConfiguration.class)
+class VirtualThreadPinningTest {
+
+	private static final int CLAIMANTS = 200;
+
+	@Autowired
+	private IssueService issueService;
+
+	@Autowired
+	private UserService userService;
+
+	@Autowired
+	private IssueRepository issueRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Test
+	void claimStormAndPrincipalLookupsDoNotPinCarrierThreads() throws Exception {
+		Issue issue = ClaimFixtures.saveOpenIssue(issueRepository, "virtual-thread-pinning", "Claimed by many virtual threads at once");
+		List<User> claimants = ClaimFixtures.saveClaimants(userRepository, "virtual-thread-pinning", CLAIMANTS);
+
+		List<String> pinnedInApplication = new CopyOnWriteArrayList<>();
+		try (RecordingStream recording = new RecordingStream()) {
+			recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+			recording.onEvent("jdk.VirtualThreadPinned", event -> {
+				if (event.getStackTrace() == null) {
+					return;
+				}
+				event.getStackTrace().getFrames().stream()
+						.map(RecordedFrame::getMethod)
+						.filter(method -> method.getType().getName().startsWith("com.devvault"))
+						.findFirst()
+						.ifPresent(method -> pinnedInApplication.add(method.getType().getName() + "." + method.getName()));
+			});
+			recording.startAsync();
+
+			try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+				List<Future<?>> work = new ArrayList<>();
+				for (User claimant : claimants) {
+					work.add(executor.submit(() -> {
+						userService.findPrincipalById(claimant.getId());
+						try {
+							issueService.claimIssue(issue.getId(), claimant.getId());
+						} catch (IssueAlreadyClaimedException e) {
+							// Expected for all but one claimant
+						}
+						return null;
+					}));
+				}
+				for (Future<?> future : work) {
+					future.get(60, TimeUnit.SECONDS);
+				}
+			}
+			recording.stop();
+		}
+
+		assertThat(pinnedInApplication).isEmpty();
+	}
+
+}
@@ -0,0 +1,68 @@
+package com.devvault.devvault_backend.service;
+
+import com.devvault.devvault_backend.TestcontainersConfiguration;
+import com.devvault.devvault_backend.model.Role;
+import com.devvault.devvault_backend.model.User;
+import com.devvault.devvault_backend.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+		"app.stats.write-behind.enabled=true",
+		"app.stats.write-behind.flush-interval-ms=3600000"
+})
+@Import(TestcontainersConfiguration.class)
+class WriteBehindStatsTest {
+
+	@Autowired
+	private UserService userService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Test
+	void rolledBackCompletionLeavesNoTrace() {
+		User user = saveUser("rollback");
+
+		transactionTemplate.executeWithoutResult(status -> {
+			userService.updateUserStats(user.getId(), 250);
+			status.setRollbackOnly();
+		});
+		userService.flushBufferedStats();
+
+		assertThat(xpOf(user)).isZero();
+	}
+
+	@Test
+	void committedCompletionIsFlushed() {
+		User user = saveUser("commit");
+
+		transactionTemplate.executeWithoutResult(status -> userService.updateUserStats(user.getId(), 250));
+		userService.flushBufferedStats();
+
+		assertThat(xpOf(user)).isEqualTo(250);
+	}
+
+	private User saveUser(String name) {
+		return userRepository.save(User.builder()
+				.name("Write-behind " + name)
+				.email("write-behind-" + name + "-" + System.nanoTime() + "@example.com")
+				.password("not-used")
+				.role(Role.DEVELOPER)
+				.xp(0)
+				.build());
+	}
+
+	private int xpOf(User user) {
+		Integer xp = userRepository.findById(user.getId()).orElseThrow().getXp();
+		return xp != null ? xp : 0;
+	}
+}
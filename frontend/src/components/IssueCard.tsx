@@ -44,7 +44,7 @@ export const IssueCard: React.FC<IssueCardProps> = ({ issue, onClaim, claiming }
             {issue.title}
           </h3>
           <p className="text-sm text-gray-400 mb-3 line-clamp-2">
-            {issue.description}
+            {issue.excerpt ?? issue.description}
           </p>
         </div>
         
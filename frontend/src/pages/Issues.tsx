@@ -115,7 +115,7 @@ export const Issues: React.FC = () => {
 
   const filteredIssues = availableIssues.filter(issue => {
     const matchesSearch = issue.title.toLowerCase().includes(searchTerm.toLowerCase()) ||
-                         issue.description.toLowerCase().includes(searchTerm.toLowerCase()) ||
+                         (issue.excerpt ?? issue.description ?? '').toLowerCase().includes(searchTerm.toLowerCase()) ||
                          issue.repository.toLowerCase().includes(searchTerm.toLowerCase());
     
     const matchesDifficulty = difficultyFilter === 'All' || issue.difficulty === difficultyFilter;
@@ -14,7 +14,9 @@ export interface User {
 export interface Issue {
   id: string;
   title: string;
-  description: string;
+  // Listings only carry a truncated excerpt; the full description comes from GET /issues/{id}
+  description?: string;
+  excerpt?: string;
   difficulty: 'Easy' | 'Medium' | 'Hard';
   reward: number;
   repository: string;